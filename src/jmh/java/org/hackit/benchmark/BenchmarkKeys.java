@@ -0,0 +1,49 @@
+package org.hackit.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.converter.RsaKeyConverters;
+
+final class BenchmarkKeys {
+
+    private static final String PRIVATE_KEY = "jwt/app.key";
+
+    private static final String PUBLIC_KEY = "jwt/app.pub";
+
+    private BenchmarkKeys() {}
+
+    static KeyPair rsa() {
+        final var privateKey = new ClassPathResource(PRIVATE_KEY);
+        final var publicKey = new ClassPathResource(PUBLIC_KEY);
+
+        if (!privateKey.exists() || !publicKey.exists()) {
+            return generate("RSA", 2048);
+        }
+
+        try (InputStream privateIn = privateKey.getInputStream();
+                InputStream publicIn = publicKey.getInputStream()) {
+            final RSAPrivateKey rsaPrivateKey = RsaKeyConverters.pkcs8().convert(privateIn);
+            final RSAPublicKey rsaPublicKey = RsaKeyConverters.x509().convert(publicIn);
+            return new KeyPair(rsaPublicKey, rsaPrivateKey);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read JWT keys from resources/jwt", e);
+        }
+    }
+
+    static KeyPair generate(final String algorithm, final int keySize) {
+        try {
+            final var generator = KeyPairGenerator.getInstance(algorithm);
+            generator.initialize(keySize);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
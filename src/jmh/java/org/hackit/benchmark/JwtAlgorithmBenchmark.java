@@ -0,0 +1,108 @@
+package org.hackit.benchmark;
+
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.hackit.auth.config.security.JwtSigningAlgorithm;
+import org.hackit.auth.config.security.JwtSigningKeys;
+import org.hackit.auth.service.JwtService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA", "HS256"})
+    private JwtSigningAlgorithm algorithm;
+
+    private JwtService jwtService;
+
+    private JwtDecoder jwtDecoder;
+
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var signingKeys = signingKeys(algorithm);
+
+        jwtService =
+                new JwtService(
+                        "hackit",
+                        "hackit-api",
+                        Duration.ofHours(1),
+                        algorithm.getJwsAlgorithm(),
+                        signingKeys.encoder());
+        jwtDecoder = signingKeys.decoder();
+        token = jwtService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String sign(final TokenSize tokenSize) {
+        final var value = jwtService.generateToken("benchmark-user");
+        tokenSize.bytes = value.length();
+        return value;
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return jwtDecoder.decode(token);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TokenSize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    private static JwtSigningKeys signingKeys(final JwtSigningAlgorithm algorithm)
+            throws Exception {
+        return switch (algorithm) {
+            case RS256 -> {
+                final var keyPair = BenchmarkKeys.rsa();
+                yield JwtSigningKeys.rsa(
+                        (RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+            }
+            case ES256 -> {
+                final var generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                final var keyPair = generator.generateKeyPair();
+                yield JwtSigningKeys.ec(
+                        (ECPublicKey) keyPair.getPublic(), (ECPrivateKey) keyPair.getPrivate());
+            }
+            case EDDSA -> {
+                final var keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                yield JwtSigningKeys.ed25519(keyPair.getPublic(), keyPair.getPrivate());
+            }
+            case HS256 -> {
+                final var secret = new byte[32];
+                new SecureRandom().nextBytes(secret);
+                yield JwtSigningKeys.hmac(secret);
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package org.hackit.benchmark;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.hackit.auth.config.JwtConfig;
+import org.hackit.auth.config.security.JwtSigningKeys;
+import org.hackit.auth.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+
+    private JwtService precomputedJwtService;
+
+    private JwtDecoder jwtDecoder;
+
+    private JwtDecoder cachingJwtDecoder;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        final var keyPair = BenchmarkKeys.rsa();
+        final var signingKeys =
+                JwtSigningKeys.rsa(
+                        (RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+
+        final var jwtConfig = new JwtConfig();
+        jwtConfig.setAccessTokenTtl(Duration.ofHours(1));
+
+        jwtService =
+                jwtConfig.jwtService("hackit", signingKeys, jwtConfig.jwtEncoder(signingKeys));
+        jwtConfig.setPrecomputedMinting(true);
+        precomputedJwtService =
+                jwtConfig.jwtService("hackit", signingKeys, jwtConfig.jwtEncoder(signingKeys));
+
+        jwtConfig.setDecoderCache(new JwtConfig.DecoderCacheProperties(true, 10_000));
+        cachingJwtDecoder = jwtConfig.jwtDecoder(signingKeys, new SimpleMeterRegistry());
+        jwtConfig.setDecoderCache(new JwtConfig.DecoderCacheProperties(false, 0));
+        jwtDecoder = jwtConfig.jwtDecoder(signingKeys, new SimpleMeterRegistry());
+
+        token = jwtService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String generateTokenPrecomputed() {
+        return precomputedJwtService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public Jwt decodeToken() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCachedToken() {
+        return cachingJwtDecoder.decode(token);
+    }
+}
@@ -0,0 +1,22 @@
+package org.hackit.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hackit.auth.util.OtpUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OtpBenchmark {
+
+    @Benchmark
+    public String generateOtp() {
+        return OtpUtil.generateOtp(6);
+    }
+}
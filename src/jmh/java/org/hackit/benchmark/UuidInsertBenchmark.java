@@ -0,0 +1,105 @@
+package org.hackit.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.hackit.auth.util.UuidUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// Uses an embedded H2 file database unless BENCHMARK_DB_URL, BENCHMARK_DB_USERNAME and
+// BENCHMARK_DB_PASSWORD point at a real Postgres instance
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"V4", "V7"})
+    private IdType idType;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection =
+                DriverManager.getConnection(
+                        env(
+                                "BENCHMARK_DB_URL",
+                                "jdbc:h2:./build/jmh-uuid-insert;MODE=PostgreSQL"),
+                        env("BENCHMARK_DB_USERNAME", "sa"),
+                        env("BENCHMARK_DB_PASSWORD", ""));
+        connection.setAutoCommit(false);
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_insert_benchmark");
+            statement.execute(
+                    "CREATE TABLE uuid_insert_benchmark"
+                            + " (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+        insert =
+                connection.prepareStatement(
+                        "INSERT INTO uuid_insert_benchmark (id, created_at) VALUES (?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_insert_benchmark");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertRows() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, idType.next());
+            insert.setTimestamp(2, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        final var value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    public enum IdType {
+        V4 {
+            @Override
+            UUID next() {
+                return UUID.randomUUID();
+            }
+        },
+        V7 {
+            @Override
+            UUID next() {
+                return UuidUtil.generateUuidV7();
+            }
+        };
+
+        abstract UUID next();
+    }
+}
@@ -0,0 +1,113 @@
+package org.hackit.auth.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    private static final String READ_REPLICAS_PREFIX = "read-replicas";
+
+    // Transactions only take a pooled connection once the first statement runs, so work done
+    // at the start of a transaction (or in one that never touches the database) costs no
+    // connection. The delay also lets read-only transactions be routed to a replica.
+    @Bean
+    public static BeanPostProcessor lazyConnectionDataSourcePostProcessor(
+            final Environment environment) {
+        return new LazyConnectionDataSourcePostProcessor(
+                Binder.get(environment)
+                        .bind(READ_REPLICAS_PREFIX, ReadReplicaProperties.class)
+                        .orElseGet(() -> new ReadReplicaProperties(null, null, null)));
+    }
+
+    public record ReadReplicaProperties(
+            List<ReplicaProperties> instances, Duration retryInterval, Duration connectionTimeout) {
+
+        public ReadReplicaProperties {
+            if (instances == null) {
+                instances = List.of();
+            }
+            if (retryInterval == null) {
+                retryInterval = Duration.ofSeconds(30);
+            }
+            if (connectionTimeout == null) {
+                connectionTimeout = Duration.ofSeconds(1);
+            }
+        }
+    }
+
+    // username and password default to the primary's
+    public record ReplicaProperties(String url, String username, String password) {}
+
+    private static class LazyConnectionDataSourcePostProcessor
+            implements BeanPostProcessor, DisposableBean {
+
+        private final ReadReplicaProperties properties;
+
+        private final List<ReadReplicaDataSource> replicaDataSources = new ArrayList<>();
+
+        LazyConnectionDataSourcePostProcessor(final ReadReplicaProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+            if (!(bean instanceof DataSource dataSource)
+                    || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+
+            final var proxy = new LazyConnectionDataSourceProxy(dataSource);
+            if (!properties.instances().isEmpty()) {
+                // Used for transactions marked read-only, e.g. @Transactional(readOnly = true)
+                proxy.setReadOnlyDataSource(replicaDataSource(dataSource));
+            }
+
+            return proxy;
+        }
+
+        @Override
+        public void destroy() {
+            replicaDataSources.forEach(ReadReplicaDataSource::close);
+        }
+
+        private ReadReplicaDataSource replicaDataSource(final DataSource primary) {
+            final var pools = new ArrayList<HikariDataSource>();
+            for (final var replica : properties.instances()) {
+                final var builder =
+                        DataSourceBuilder.derivedFrom(primary)
+                                .type(HikariDataSource.class)
+                                .url(replica.url());
+                if (replica.username() != null) {
+                    builder.username(replica.username()).password(replica.password());
+                }
+
+                final var pool = builder.build();
+                pool.setPoolName("replica-" + (pools.size() + 1));
+                pool.setReadOnly(true);
+                pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+                pools.add(pool);
+            }
+
+            final var replicaDataSource =
+                    new ReadReplicaDataSource(pools, primary, properties.retryInterval());
+            replicaDataSources.add(replicaDataSource);
+
+            return replicaDataSource;
+        }
+    }
+}
@@ -1,23 +1,32 @@
 package org.hackit.auth.config;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
 import java.time.Duration;
 
+import org.hackit.auth.config.security.CachingJwtDecoder;
+import org.hackit.auth.config.security.JwtSigningAlgorithm;
+import org.hackit.auth.config.security.JwtSigningKeys;
+import org.hackit.auth.config.security.RevokedJwtValidator;
+import org.hackit.auth.repository.AccessTokenRevocations;
+import org.hackit.auth.repository.RedisAccessTokenRevocations;
 import org.hackit.auth.service.JwtService;
+import org.hackit.auth.service.PrecomputedJwtService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
-
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -27,28 +36,112 @@ import lombok.Setter;
 @ConfigurationProperties(prefix = "jwt")
 public class JwtConfig {
 
-    private RSAPrivateKey privateKey;
+    private JwtSigningAlgorithm algorithm = JwtSigningAlgorithm.RS256;
+
+    private Resource privateKey;
+
+    private Resource publicKey;
 
-    private RSAPublicKey publicKey;
+    private String secret;
 
     private Duration accessTokenTtl;
 
+    private String audience = "hackit-api";
+
+    private boolean precomputedMinting = false;
+
+    private DecoderCacheProperties decoderCache = new DecoderCacheProperties(true, 10_000);
+
+    private RevocationProperties revocation = new RevocationProperties(false, 100_000, 0.01);
+
     @Bean
-    public JwtEncoder jwtEncoder() {
-        final var jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+    public JwtSigningKeys jwtSigningKeys() {
+        return JwtSigningKeys.load(algorithm, privateKey, publicKey, secret);
+    }
 
-        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+    @Bean
+    public JwtEncoder jwtEncoder(final JwtSigningKeys jwtSigningKeys) {
+        return jwtSigningKeys.encoder();
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public JwtDecoder jwtDecoder(
+            final JwtSigningKeys jwtSigningKeys,
+            final AccessTokenRevocations accessTokenRevocations,
+            final MeterRegistry meterRegistry) {
+        final var decoder = jwtSigningKeys.decoder();
+        final var revokedJwtValidator = new RevokedJwtValidator(accessTokenRevocations);
+
+        if (!decoderCache.enabled()) {
+            decoder.setJwtValidator(
+                    new DelegatingOAuth2TokenValidator<>(
+                            JwtValidators.createDefault(), revokedJwtValidator));
+            return decoder;
+        }
+
+        // Revocation is checked on every decode, so it must run after the cache
+        final var cachingDecoder =
+                new CachingJwtDecoder(decoder, decoderCache.maximumSize(), meterRegistry);
+        cachingDecoder.setJwtValidator(revokedJwtValidator);
+
+        return cachingDecoder;
+    }
+
+    @Bean(initMethod = "loadRevoked")
+    @ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+    public RedisAccessTokenRevocations redisAccessTokenRevocations(
+            final RedisTemplate<String, String> redisTemplate) {
+        return new RedisAccessTokenRevocations(
+                redisTemplate,
+                accessTokenTtl,
+                revocation.expectedInsertions(),
+                revocation.falsePositiveProbability(),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer accessTokenRevocationListener(
+            final RedisConnectionFactory redisConnectionFactory,
+            final RedisAccessTokenRevocations redisAccessTokenRevocations) {
+        final var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                redisAccessTokenRevocations,
+                new ChannelTopic(RedisAccessTokenRevocations.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "jwt.revocation",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    public AccessTokenRevocations accessTokenRevocations() {
+        return AccessTokenRevocations.NONE;
     }
 
     @Bean
     public JwtService jwtService(
             @Value("${spring.application.name}") final String appName,
+            final JwtSigningKeys jwtSigningKeys,
             final JwtEncoder jwtEncoder) {
-        return new JwtService(appName, accessTokenTtl, jwtEncoder);
+        if (precomputedMinting) {
+            return new PrecomputedJwtService(
+                    appName, audience, accessTokenTtl, jwtSigningKeys, jwtEncoder);
+        }
+
+        return new JwtService(
+                appName,
+                audience,
+                accessTokenTtl,
+                jwtSigningKeys.algorithm().getJwsAlgorithm(),
+                jwtEncoder);
     }
+
+    public record DecoderCacheProperties(boolean enabled, long maximumSize) {}
+
+    public record RevocationProperties(
+            boolean enabled, long expectedInsertions, double falsePositiveProbability) {}
 }
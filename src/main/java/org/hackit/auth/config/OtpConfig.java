@@ -1,8 +1,16 @@
 package org.hackit.auth.config;
 
 import java.time.Duration;
+import java.util.Base64;
 
+import org.hackit.auth.config.security.HmacOtpHasher;
+import org.hackit.auth.config.security.OtpHasher;
+import org.hackit.auth.config.security.PasswordEncoderOtpHasher;
+import org.hackit.auth.repository.InMemoryOtpStore;
+import org.hackit.auth.repository.OtpStore;
+import org.hackit.auth.repository.RedisOtpStore;
 import org.hackit.auth.service.OtpService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,14 +26,68 @@ import lombok.Setter;
 @ConfigurationProperties(prefix = "otp")
 public class OtpConfig {
 
+    private OtpStoreType store = OtpStoreType.REDIS;
+
+    private MemoryStoreProperties memory = new MemoryStoreProperties(100_000);
+
     private OtpConfigProperties emailVerification;
 
+    @Bean
+    public OtpStore otpStore(final ObjectProvider<RedisTemplate<String, String>> redisTemplate) {
+        return switch (store) {
+            case REDIS -> new RedisOtpStore(redisTemplate.getObject());
+            case MEMORY -> new InMemoryOtpStore(memory.maximumSize());
+        };
+    }
+
     @Bean
     public OtpService emailVerificationOtpService(
-            final RedisTemplate<String, String> redisTemplate,
-            final PasswordEncoder passwordEncoder) {
-        return new OtpService(emailVerification, redisTemplate, passwordEncoder);
+            final OtpStore otpStore, final ObjectProvider<PasswordEncoder> passwordEncoder) {
+        return new OtpService(
+                emailVerification, otpStore, otpHasher(emailVerification, passwordEncoder));
+    }
+
+    private static OtpHasher otpHasher(
+            final OtpConfigProperties properties,
+            final ObjectProvider<PasswordEncoder> passwordEncoder) {
+        return switch (properties.hashing()) {
+            case BCRYPT -> new PasswordEncoderOtpHasher(passwordEncoder.getObject());
+            case HMAC -> {
+                if (properties.secret() == null || properties.secret().isBlank()) {
+                    throw new IllegalStateException("otp secret is required for HMAC hashing");
+                }
+                yield new HmacOtpHasher(Base64.getDecoder().decode(properties.secret()));
+            }
+        };
     }
 
-    public record OtpConfigProperties(String cachePrefix, Duration ttl, Integer length) {}
+    public record OtpConfigProperties(
+            String cachePrefix,
+            Duration ttl,
+            Integer length,
+            Integer maxAttempts,
+            OtpHashing hashing,
+            String secret) {
+
+        public OtpConfigProperties {
+            if (maxAttempts == null) {
+                maxAttempts = 5;
+            }
+            if (hashing == null) {
+                hashing = OtpHashing.BCRYPT;
+            }
+        }
+    }
+
+    public record MemoryStoreProperties(long maximumSize) {}
+
+    public enum OtpStoreType {
+        REDIS,
+        MEMORY
+    }
+
+    public enum OtpHashing {
+        BCRYPT,
+        HMAC
+    }
 }
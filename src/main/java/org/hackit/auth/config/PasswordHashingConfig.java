@@ -0,0 +1,51 @@
+package org.hackit.auth.config;
+
+import java.time.Duration;
+
+import org.hackit.auth.config.security.BCryptCostCalibrator;
+import org.hackit.auth.config.security.PasswordHashingExecutor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "password-hashing")
+@Slf4j
+public class PasswordHashingConfig {
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private int queueCapacity = 64;
+
+    private Duration timeout = Duration.ofSeconds(2);
+
+    private BCryptProperties bcrypt = new BCryptProperties(10, false, Duration.ofMillis(250));
+
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingExecutor passwordHashingExecutor(final MeterRegistry meterRegistry) {
+        return new PasswordHashingExecutor(threads, queueCapacity, timeout, meterRegistry);
+    }
+
+    public int resolveBcryptStrength() {
+        if (!bcrypt.calibrate()) {
+            return bcrypt.strength();
+        }
+
+        final var strength = BCryptCostCalibrator.calibrate(bcrypt.targetLatency()).strength();
+        log.info(
+                "Calibrated BCrypt strength {} for a target latency of {}",
+                strength,
+                bcrypt.targetLatency());
+
+        return strength;
+    }
+
+    public record BCryptProperties(int strength, boolean calibrate, Duration targetLatency) {}
+}
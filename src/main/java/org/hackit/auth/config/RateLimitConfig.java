@@ -0,0 +1,80 @@
+package org.hackit.auth.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hackit.auth.config.security.RateLimitKey;
+import org.hackit.auth.config.security.RateLimitingFilter;
+import org.hackit.auth.repository.RedisRateLimitCounter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfig {
+
+    private boolean enabled = true;
+
+    private boolean distributed = true;
+
+    private long maxLocalKeys = 100_000;
+
+    private Map<String, PolicyProperties> policies = new LinkedHashMap<>();
+
+    // Registered ahead of the security filter chain so rejected requests cost no auth work
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rate-limit",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitingFilter> rateLimitingFilter(
+            final ObjectMapper objectMapper,
+            final ObjectProvider<RedisTemplate<String, String>> redisTemplate,
+            final MeterRegistry meterRegistry) {
+        final var counter =
+                distributed
+                        ? new RedisRateLimitCounter(redisTemplate.getObject(), Clock.systemUTC())
+                        : null;
+        final var filter =
+                new RateLimitingFilter(
+                        objectMapper, policies, counter, maxLocalKeys, meterRegistry);
+
+        final var registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // capacity requests per refill-period and node; cluster-limit caps the same window across
+    // all nodes and is skipped when unset or when rate-limit.distributed is false
+    public record PolicyProperties(
+            HttpMethod method,
+            List<String> paths,
+            List<RateLimitKey> keys,
+            long capacity,
+            Duration refillPeriod,
+            Long clusterLimit) {
+
+        public PolicyProperties {
+            method = method != null ? method : HttpMethod.POST;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.hackit.auth.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Hands out read-only connections round-robin across the replica pools. A replica that fails to
+// produce a connection is skipped for the retry interval; when none is available the primary
+// serves the read.
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final List<Replica> replicas;
+
+    private final DataSource primary;
+
+    private final long retryIntervalMillis;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaDataSource(
+            final List<HikariDataSource> replicas,
+            final DataSource primary,
+            final Duration retryInterval) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.primary = primary;
+        this.retryIntervalMillis = retryInterval.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password)
+            throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    private Connection getConnection(final ConnectionSource source) throws SQLException {
+        final var now = System.currentTimeMillis();
+        final var start = Math.floorMod(next.getAndIncrement(), replicas.size());
+
+        for (var i = 0; i < replicas.size(); i++) {
+            final var replica = replicas.get((start + i) % replicas.size());
+            if (replica.downUntil > now) {
+                continue;
+            }
+            try {
+                return source.get(replica.dataSource());
+            } catch (SQLException e) {
+                replica.downUntil = now + retryIntervalMillis;
+                log.warn(
+                        "Read replica {} unavailable, retrying in {} ms",
+                        replica.dataSource().getPoolName(),
+                        retryIntervalMillis,
+                        e);
+            }
+        }
+
+        return source.get(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+
+        private volatile long downUntil;
+
+        private Replica(final HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private HikariDataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.hackit.auth.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.hackit.auth.repository.InMemoryRefreshTokenRevocations;
+import org.hackit.auth.repository.JpaRefreshTokenStore;
+import org.hackit.auth.repository.RedisRefreshTokenRevocations;
+import org.hackit.auth.repository.RedisRefreshTokenStore;
+import org.hackit.auth.repository.RefreshTokenRepository;
+import org.hackit.auth.repository.RefreshTokenRevocations;
+import org.hackit.auth.repository.RefreshTokenStore;
+import org.hackit.auth.repository.SignedRefreshTokenStore;
+import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.scheduling.RefreshTokenPartitionMaintainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "refresh-token")
+public class RefreshTokenConfig {
+
+    private StoreType store = StoreType.JPA;
+
+    private PartitioningProperties partitioning =
+            new PartitioningProperties(true, Duration.ofHours(1), Duration.ofDays(7));
+
+    private SignedProperties signed = new SignedProperties(null, RevocationStoreType.MEMORY);
+
+    @Bean
+    public RefreshTokenStore refreshTokenStore(
+            final RefreshTokenRepository refreshTokenRepository,
+            final UserRepository userRepository,
+            final RedisTemplate<String, String> redisTemplate,
+            @Value("${jwt.refresh-token-ttl}") final Duration refreshTokenTtl) {
+        return switch (store) {
+            case JPA -> new JpaRefreshTokenStore(refreshTokenRepository, userRepository);
+            case REDIS -> new RedisRefreshTokenStore(redisTemplate);
+            case SIGNED -> signedRefreshTokenStore(redisTemplate, refreshTokenTtl);
+        };
+    }
+
+    private SignedRefreshTokenStore signedRefreshTokenStore(
+            final RedisTemplate<String, String> redisTemplate, final Duration refreshTokenTtl) {
+        if (signed.secret() == null || signed.secret().isBlank()) {
+            throw new IllegalStateException(
+                    "refresh-token.signed.secret must be set when refresh-token.store is signed");
+        }
+
+        final RefreshTokenRevocations revocations =
+                switch (signed.revocations()) {
+                    case MEMORY -> new InMemoryRefreshTokenRevocations();
+                    case REDIS -> new RedisRefreshTokenRevocations(redisTemplate);
+                };
+
+        return new SignedRefreshTokenStore(
+                Base64.getDecoder().decode(signed.secret()), revocations, refreshTokenTtl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "refresh-token.partitioning",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public RefreshTokenPartitionMaintainer refreshTokenPartitionMaintainer(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${jwt.refresh-token-ttl}") final Duration refreshTokenTtl) {
+        // Tokens expiring past the pre-created partitions land in the default partition
+        if (partitioning.ahead().compareTo(refreshTokenTtl) <= 0) {
+            throw new IllegalStateException(
+                    "refresh-token.partitioning.ahead (%s) must exceed jwt.refresh-token-ttl (%s)"
+                            .formatted(partitioning.ahead(), refreshTokenTtl));
+        }
+
+        return new RefreshTokenPartitionMaintainer(
+                jdbcTemplate, partitioning.ahead(), Clock.systemUTC());
+    }
+
+    public record PartitioningProperties(boolean enabled, Duration interval, Duration ahead) {}
+
+    public record SignedProperties(String secret, RevocationStoreType revocations) {}
+
+    public enum StoreType {
+        JPA,
+        REDIS,
+        SIGNED
+    }
+
+    public enum RevocationStoreType {
+        MEMORY,
+        REDIS
+    }
+}
@@ -4,9 +4,15 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.hackit.auth.config.security.AdminAuthorityConverter;
 import org.hackit.auth.config.security.BearerTokenAccessDeniedHandler;
 import org.hackit.auth.config.security.BearerTokenAuthenticationEntryPoint;
+import org.hackit.auth.config.security.BoundedPasswordEncoder;
+import org.hackit.auth.config.security.CostAwareBCryptPasswordEncoder;
+import org.hackit.auth.config.security.PasswordHashingExecutor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,7 +21,7 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -28,6 +34,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BCRYPT_ENCODER_ID = "bcrypt";
+
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private List<String> allowedOrigins;
 
@@ -37,6 +45,9 @@ public class SecurityConfig {
     @Value("${cors.max-age:3600}")
     private long maxAge;
 
+    @Value("${admin.usernames:}")
+    private Set<String> adminUsernames;
+
     @Bean
     public SecurityFilterChain securityFilterChain(
             final HttpSecurity http,
@@ -55,12 +66,18 @@ public class SecurityConfig {
                                                 "/v3/api-docs/**",
                                                 "/swagger-ui/**")
                                         .permitAll()
+                                        .requestMatchers("/api/admin/**")
+                                        .hasAuthority(AdminAuthorityConverter.ADMIN_AUTHORITY)
                                         .anyRequest()
                                         .authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .oauth2ResourceServer(
                         server ->
-                                server.jwt(Customizer.withDefaults())
+                                server.jwt(
+                                                jwt ->
+                                                        jwt.jwtAuthenticationConverter(
+                                                                new AdminAuthorityConverter(
+                                                                        adminUsernames)))
                                         .authenticationEntryPoint(authenticationEntryPoint)
                                         .accessDeniedHandler(accessDeniedHandler))
                 .build();
@@ -73,8 +90,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            final PasswordHashingConfig passwordHashingConfig,
+            final PasswordHashingExecutor passwordHashingExecutor) {
+        final var bcrypt =
+                new CostAwareBCryptPasswordEncoder(passwordHashingConfig.resolveBcryptStrength());
+        final var encoder =
+                new DelegatingPasswordEncoder(BCRYPT_ENCODER_ID, Map.of(BCRYPT_ENCODER_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(encoder, passwordHashingExecutor);
     }
 
     @Bean
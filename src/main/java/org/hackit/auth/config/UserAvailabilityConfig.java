@@ -0,0 +1,64 @@
+package org.hackit.auth.config;
+
+import java.time.Duration;
+
+import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.service.UserAvailabilityService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "user-availability")
+public class UserAvailabilityConfig {
+
+    private long expectedUsers = 1_000_000;
+
+    private double falsePositiveProbability = 0.01;
+
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+
+    private boolean distributed = true;
+
+    @Bean
+    public UserAvailabilityService userAvailabilityService(
+            final UserRepository userRepository,
+            final ObjectProvider<RedisTemplate<String, String>> redisTemplate,
+            final ObjectMapper objectMapper) {
+        return new UserAvailabilityService(
+                userRepository,
+                expectedUsers,
+                falsePositiveProbability,
+                distributed ? redisTemplate.getObject() : null,
+                objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "user-availability",
+            name = "distributed",
+            havingValue = "true",
+            matchIfMissing = true)
+    public RedisMessageListenerContainer userRegistrationListener(
+            final RedisConnectionFactory redisConnectionFactory,
+            final UserAvailabilityService userAvailabilityService) {
+        final var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                userAvailabilityService, new ChannelTopic(UserAvailabilityService.CHANNEL));
+        return container;
+    }
+}
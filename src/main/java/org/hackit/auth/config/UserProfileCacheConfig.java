@@ -0,0 +1,64 @@
+package org.hackit.auth.config;
+
+import java.time.Duration;
+
+import org.hackit.auth.service.UserProfileCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+
+@Configuration
+@Setter
+@Getter
+@ConfigurationProperties(prefix = "user-profile-cache")
+public class UserProfileCacheConfig {
+
+    private long maximumSize = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(1);
+
+    private boolean distributed = true;
+
+    private Duration redisTtl = Duration.ofMinutes(10);
+
+    @Bean
+    public UserProfileCache userProfileCache(
+            final ObjectProvider<RedisTemplate<String, String>> redisTemplate,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry) {
+        return new UserProfileCache(
+                maximumSize,
+                ttl,
+                distributed ? redisTemplate.getObject() : null,
+                objectMapper,
+                redisTtl,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "user-profile-cache",
+            name = "distributed",
+            havingValue = "true",
+            matchIfMissing = true)
+    public RedisMessageListenerContainer userProfileInvalidationListener(
+            final RedisConnectionFactory redisConnectionFactory,
+            final UserProfileCache userProfileCache) {
+        final var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(userProfileCache, new ChannelTopic(UserProfileCache.CHANNEL));
+        return container;
+    }
+}
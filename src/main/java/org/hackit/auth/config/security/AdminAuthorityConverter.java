@@ -0,0 +1,40 @@
+package org.hackit.auth.config.security;
+
+import java.util.ArrayList;
+import java.util.Set;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+// Grants ADMIN to the configured usernames on every request. The authority is not a token claim,
+// so removing a username from the configuration takes effect for tokens already issued.
+public class AdminAuthorityConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    public static final String ADMIN_AUTHORITY = "ADMIN";
+
+    private final JwtAuthenticationConverter delegate = new JwtAuthenticationConverter();
+
+    private final Set<String> adminUsernames;
+
+    public AdminAuthorityConverter(final Set<String> adminUsernames) {
+        this.adminUsernames = Set.copyOf(adminUsernames);
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(final Jwt jwt) {
+        final var authentication = delegate.convert(jwt);
+        if (!adminUsernames.contains(jwt.getSubject())) {
+            return authentication;
+        }
+
+        final var authorities = new ArrayList<GrantedAuthority>(authentication.getAuthorities());
+        authorities.add(new SimpleGrantedAuthority(ADMIN_AUTHORITY));
+
+        return new JwtAuthenticationToken(jwt, authorities, authentication.getName());
+    }
+}
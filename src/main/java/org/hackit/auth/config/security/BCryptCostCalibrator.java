@@ -0,0 +1,72 @@
+package org.hackit.auth.config.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public final class BCryptCostCalibrator {
+
+    public static final int MIN_STRENGTH = 4;
+
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int SAMPLES = 3;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptCostCalibrator() {}
+
+    // Measures increasing strengths until one exceeds the target; every measured latency is kept
+    public static Calibration calibrate(final Duration targetLatency) {
+        final var latencies = new LinkedHashMap<Integer, Duration>();
+        var chosen = MIN_STRENGTH;
+
+        for (var strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            final var latency = measure(strength);
+            latencies.put(strength, latency);
+            if (latency.compareTo(targetLatency) > 0) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        return new Calibration(chosen, latencies);
+    }
+
+    public static Duration measure(final int strength) {
+        final var encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        final var samples = new long[SAMPLES];
+        for (var i = 0; i < SAMPLES; i++) {
+            final var startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(samples);
+
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+
+    public static void main(final String[] args) {
+        final var targetLatency =
+                DurationStyle.detectAndParse(args.length > 0 ? args[0] : "250ms");
+
+        final var calibration = calibrate(targetLatency);
+        calibration
+                .latencies()
+                .forEach(
+                        (strength, latency) ->
+                                System.out.printf(
+                                        "strength=%d latency=%dms%n",
+                                        strength, latency.toMillis()));
+        System.out.printf(
+                "recommended strength for %s: %d%n", targetLatency, calibration.strength());
+    }
+
+    public record Calibration(int strength, Map<Integer, Duration> latencies) {}
+}
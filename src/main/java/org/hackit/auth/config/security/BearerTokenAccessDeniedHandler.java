@@ -1,42 +1,41 @@
 package org.hackit.auth.config.security;
 
 import static org.hackit.auth.exception.ErrorType.FORBIDDEN;
-import static org.hackit.auth.exception.ProblemDetailBuilder.forStatus;
 
 import java.io.IOException;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
-@Slf4j
 public final class BearerTokenAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
+    private final RejectionResponse rejectionResponse;
+
+    public BearerTokenAccessDeniedHandler(
+            final ObjectMapper objectMapper, final MeterRegistry meterRegistry) {
+        this.rejectionResponse =
+                new RejectionResponse(
+                        objectMapper,
+                        HttpStatus.FORBIDDEN,
+                        FORBIDDEN,
+                        meterRegistry,
+                        RejectionResponse.LOG_INTERVAL);
+    }
 
     public void handle(
             final HttpServletRequest request,
             final HttpServletResponse response,
             final AccessDeniedException accessDeniedException)
             throws IOException {
-        final var status = HttpStatus.FORBIDDEN;
-
-        log.info("{}: {}", status.getReasonPhrase(), accessDeniedException.getMessage());
-
-        response.setStatus(status.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        objectMapper.writeValue(
-                response.getWriter(), forStatus(status).withErrorType(FORBIDDEN).build());
+        rejectionResponse.write(request, response, accessDeniedException);
     }
 }
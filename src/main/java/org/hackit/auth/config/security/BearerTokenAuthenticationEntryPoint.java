@@ -1,42 +1,41 @@
 package org.hackit.auth.config.security;
 
 import static org.hackit.auth.exception.ErrorType.UNAUTHORIZED;
-import static org.hackit.auth.exception.ProblemDetailBuilder.forStatus;
 
 import java.io.IOException;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
-@Slf4j
 public final class BearerTokenAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
+    private final RejectionResponse rejectionResponse;
+
+    public BearerTokenAuthenticationEntryPoint(
+            final ObjectMapper objectMapper, final MeterRegistry meterRegistry) {
+        this.rejectionResponse =
+                new RejectionResponse(
+                        objectMapper,
+                        HttpStatus.UNAUTHORIZED,
+                        UNAUTHORIZED,
+                        meterRegistry,
+                        RejectionResponse.LOG_INTERVAL);
+    }
 
     public void commence(
             final HttpServletRequest request,
             final HttpServletResponse response,
             final AuthenticationException authException)
             throws IOException {
-        final var status = HttpStatus.UNAUTHORIZED;
-
-        log.info("{}: {}", status.getReasonPhrase(), authException.getMessage());
-
-        response.setStatus(status.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        objectMapper.writeValue(
-                response.getWriter(), forStatus(status).withErrorType(UNAUTHORIZED).build());
+        rejectionResponse.write(request, response, authException);
     }
 }
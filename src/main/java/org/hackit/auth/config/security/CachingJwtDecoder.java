@@ -0,0 +1,110 @@
+package org.hackit.auth.config.security;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Setter;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final String CACHE_NAME = "jwt-decoder";
+
+    private final JwtDecoder delegate;
+
+    private final Cache<String, Jwt> cache;
+
+    // Applied on every decode, including cache hits, for checks that can change during the
+    // token lifetime such as revocation
+    @Setter
+    private OAuth2TokenValidator<Jwt> jwtValidator = jwt -> OAuth2TokenValidatorResult.success();
+
+    public CachingJwtDecoder(
+            final JwtDecoder delegate, final long maximumSize, final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .recordStats()
+                        .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(final String token) throws JwtException {
+        final var key = digest(token);
+        final var cached = cache.getIfPresent(key);
+
+        if (cached != null && cached.getTokenValue().equals(token)) {
+            return validate(cached);
+        }
+
+        final var jwt = delegate.decode(token);
+        cache.put(key, jwt);
+
+        return validate(jwt);
+    }
+
+    private Jwt validate(final Jwt jwt) {
+        final var result = jwtValidator.validate(jwt);
+        if (result.hasErrors()) {
+            final var description = result.getErrors().iterator().next().getDescription();
+            throw new JwtValidationException(description, result.getErrors());
+        }
+
+        return jwt;
+    }
+
+    private static String digest(final String token) {
+        try {
+            final var digest =
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpires implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Jwt jwt, final long currentTime) {
+            if (jwt.getExpiresAt() == null) {
+                return 0;
+            }
+
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String key, final Jwt jwt, final long currentTime, final long duration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String key, final Jwt jwt, final long currentTime, final long duration) {
+            return duration;
+        }
+    }
+}
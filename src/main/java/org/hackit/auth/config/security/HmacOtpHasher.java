@@ -0,0 +1,48 @@
+package org.hackit.auth.config.security;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.hackit.auth.util.HmacSha256;
+
+// HMAC-SHA256 keyed with a server-side secret and salted with the owner id, so a leaked Redis
+// dump cannot be brute-forced offline and equal codes of different users never share a digest.
+// The digest is deterministic, which lets Redis compare it atomically.
+public class HmacOtpHasher implements OtpHasher {
+
+    private static final byte[] SEPARATOR = {':'};
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final HmacSha256 mac;
+
+    public HmacOtpHasher(final byte[] secret) {
+        if (secret.length < HmacSha256.MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "OTP secret must be at least %d bytes"
+                            .formatted(HmacSha256.MIN_SECRET_LENGTH));
+        }
+        this.mac = new HmacSha256(secret);
+    }
+
+    @Override
+    public String hash(final UUID ownerId, final String otp) {
+        return ENCODER.encodeToString(
+                mac.sign(ownerId.toString().getBytes(UTF_8), SEPARATOR, otp.getBytes(UTF_8)));
+    }
+
+    @Override
+    public boolean matches(final UUID ownerId, final String otp, final String storedHash) {
+        return storedHash != null
+                && MessageDigest.isEqual(
+                        hash(ownerId, otp).getBytes(UTF_8), storedHash.getBytes(UTF_8));
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+}
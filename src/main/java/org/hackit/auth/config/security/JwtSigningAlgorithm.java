@@ -0,0 +1,25 @@
+package org.hackit.auth.config.security;
+
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+
+import com.nimbusds.jose.JWSAlgorithm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JwtSigningAlgorithm {
+    RS256(SignatureAlgorithm.RS256),
+    ES256(SignatureAlgorithm.ES256),
+    EDDSA(() -> "EdDSA"),
+    HS256(MacAlgorithm.HS256);
+
+    private final JwsAlgorithm jwsAlgorithm;
+
+    public JWSAlgorithm toJoseAlgorithm() {
+        return JWSAlgorithm.parse(jwsAlgorithm.getName());
+    }
+}
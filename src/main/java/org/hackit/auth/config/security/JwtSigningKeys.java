@@ -0,0 +1,165 @@
+package org.hackit.auth.config.security;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+public record JwtSigningKeys(JwtSigningAlgorithm algorithm, JWK jwk) {
+
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private static final int MIN_HMAC_SECRET_LENGTH = 32;
+
+    public static JwtSigningKeys rsa(final RSAPublicKey publicKey, final RSAPrivateKey privateKey) {
+        return new JwtSigningKeys(
+                JwtSigningAlgorithm.RS256,
+                new RSAKey.Builder(publicKey).privateKey(privateKey).build());
+    }
+
+    public static JwtSigningKeys ec(final ECPublicKey publicKey, final ECPrivateKey privateKey) {
+        return new JwtSigningKeys(
+                JwtSigningAlgorithm.ES256,
+                new ECKey.Builder(Curve.P_256, publicKey).privateKey(privateKey).build());
+    }
+
+    public static JwtSigningKeys ed25519(final PublicKey publicKey, final PrivateKey privateKey) {
+        final var encodedPublicKey = publicKey.getEncoded();
+        final var x =
+                Arrays.copyOfRange(
+                        encodedPublicKey,
+                        encodedPublicKey.length - ED25519_KEY_LENGTH,
+                        encodedPublicKey.length);
+        final var d =
+                ((EdECPrivateKey) privateKey)
+                        .getBytes()
+                        .orElseThrow(
+                                () -> new IllegalStateException("Ed25519 private key is empty"));
+
+        return new JwtSigningKeys(
+                JwtSigningAlgorithm.EDDSA,
+                new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x))
+                        .d(Base64URL.encode(d))
+                        .build());
+    }
+
+    public static JwtSigningKeys hmac(final byte[] secret) {
+        if (secret.length < MIN_HMAC_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "HMAC secret must be at least %d bytes".formatted(MIN_HMAC_SECRET_LENGTH));
+        }
+
+        return new JwtSigningKeys(
+                JwtSigningAlgorithm.HS256, new OctetSequenceKey.Builder(secret).build());
+    }
+
+    public static JwtSigningKeys load(
+            final JwtSigningAlgorithm algorithm,
+            final Resource privateKey,
+            final Resource publicKey,
+            final String secret) {
+        return switch (algorithm) {
+            case RS256 ->
+                    rsa(
+                            (RSAPublicKey) readPublicKey("RSA", publicKey),
+                            (RSAPrivateKey) readPrivateKey("RSA", privateKey));
+            case ES256 ->
+                    ec(
+                            (ECPublicKey) readPublicKey("EC", publicKey),
+                            (ECPrivateKey) readPrivateKey("EC", privateKey));
+            case EDDSA ->
+                    ed25519(
+                            readPublicKey("Ed25519", publicKey),
+                            readPrivateKey("Ed25519", privateKey));
+            case HS256 -> {
+                if (secret == null || secret.isBlank()) {
+                    throw new IllegalStateException("jwt.secret is required for HS256");
+                }
+                yield hmac(Base64.getDecoder().decode(secret));
+            }
+        };
+    }
+
+    public JwtEncoder encoder() {
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+    }
+
+    public NimbusJwtDecoder decoder() {
+        final var verificationKey = jwk instanceof OctetSequenceKey ? jwk : jwk.toPublicJWK();
+        final var jwtProcessor = new DefaultJWTProcessor<SecurityContext>();
+        jwtProcessor.setJWSKeySelector(
+                new JWSVerificationKeySelector<>(
+                        algorithm.toJoseAlgorithm(),
+                        new ImmutableJWKSet<>(new JWKSet(verificationKey))));
+        // Claims are validated by NimbusJwtDecoder's OAuth2TokenValidator
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    private static PublicKey readPublicKey(final String keyAlgorithm, final Resource resource) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePublic(new X509EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(
+                    "Invalid %s public key [%s]".formatted(keyAlgorithm, resource), e);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(final String keyAlgorithm, final Resource resource) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePrivate(new PKCS8EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(
+                    "Invalid %s private key [%s], a PKCS#8 PEM is expected"
+                            .formatted(keyAlgorithm, resource),
+                    e);
+        }
+    }
+
+    private static byte[] readPem(final Resource resource) {
+        if (resource == null) {
+            throw new IllegalStateException("Key resource is not configured");
+        }
+
+        try {
+            final var pem = resource.getContentAsString(US_ASCII);
+            final var base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(base64);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read key [%s]".formatted(resource), e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.hackit.auth.config.security;
+
+import java.util.UUID;
+
+public interface OtpHasher {
+
+    String hash(UUID ownerId, String otp);
+
+    boolean matches(UUID ownerId, String otp, String storedHash);
+
+    // Whether hash() always yields the stored value for a correct code, so it can be compared
+    // by Redis without reading the stored hash first
+    default boolean isDeterministic() {
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package org.hackit.auth.config.security;
+
+import java.util.UUID;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PasswordEncoderOtpHasher implements OtpHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Override
+    public String hash(final UUID ownerId, final String otp) {
+        return passwordEncoder.encode(otp);
+    }
+
+    @Override
+    public boolean matches(final UUID ownerId, final String otp, final String storedHash) {
+        return storedHash != null && passwordEncoder.matches(otp, storedHash);
+    }
+}
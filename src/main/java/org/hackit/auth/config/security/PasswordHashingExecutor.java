@@ -0,0 +1,138 @@
+package org.hackit.auth.config.security;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hackit.auth.exception.ErrorType.SERVICE_OVERLOADED;
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.hackit.auth.exception.RestErrorResponseException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final Duration timeout;
+
+    private final Timer waitTimer;
+
+    private final Timer hashTimer;
+
+    private final Counter rejectedCounter;
+
+    private final Counter timedOutCounter;
+
+    public PasswordHashingExecutor(
+            final int threads,
+            final int queueCapacity,
+            final Duration timeout,
+            final MeterRegistry meterRegistry) {
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("password-hashing-"),
+                        new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+
+        this.waitTimer =
+                Timer.builder("password.hashing.wait")
+                        .description("Time a hashing task spent queued before it started")
+                        .register(meterRegistry);
+        this.hashTimer =
+                Timer.builder("password.hashing.duration")
+                        .description("Time spent computing or verifying a password hash")
+                        .register(meterRegistry);
+        this.rejectedCounter =
+                Counter.builder("password.hashing.rejected")
+                        .description("Hashing tasks rejected because the queue was full")
+                        .register(meterRegistry);
+        this.timedOutCounter =
+                Counter.builder("password.hashing.timed-out")
+                        .description("Hashing tasks abandoned because they did not finish in time")
+                        .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Hashing tasks waiting for a free hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(final Supplier<T> task) {
+        final var submittedAt = System.nanoTime();
+        final Future<T> future;
+
+        try {
+            future =
+                    executor.submit(
+                            () -> {
+                                final var startedAt = System.nanoTime();
+                                waitTimer.record(startedAt - submittedAt, NANOSECONDS);
+                                try {
+                                    return task.get();
+                                } finally {
+                                    hashTimer.record(System.nanoTime() - startedAt, NANOSECONDS);
+                                }
+                            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeout.toMillis(), MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOutCounter.increment();
+            log.warn("Password hashing did not complete within {}", timeout);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static RestErrorResponseException overloaded() {
+        return new RestErrorResponseException(
+                forStatusAndDetail(
+                                SERVICE_UNAVAILABLE,
+                                "The service is temporarily overloaded, please retry later")
+                        .withErrorType(SERVICE_OVERLOADED)
+                        .build());
+    }
+}
@@ -0,0 +1,7 @@
+package org.hackit.auth.config.security;
+
+public enum RateLimitKey {
+    IP,
+    USERNAME,
+    EMAIL
+}
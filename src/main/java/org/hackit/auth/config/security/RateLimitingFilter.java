@@ -0,0 +1,344 @@
+package org.hackit.auth.config.security;
+
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hackit.auth.config.RateLimitConfig;
+import org.hackit.auth.dto.ApiErrorResponse;
+import org.hackit.auth.exception.ErrorType;
+import org.hackit.auth.repository.RedisRateLimitCounter;
+import org.hackit.auth.util.TokenBucket;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Every request matching a policy takes a token from a local bucket per key (client IP, username,
+// email) and, when a cluster limit is configured, bumps the shared Redis counters. The local
+// buckets absorb floods without touching Redis; Redis failures fall back to local limits only.
+@Slf4j
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    // Credentials payloads are tiny; anything bigger is not parsed for keys
+    private static final int MAX_PARSED_BODY_BYTES = 16 * 1024;
+
+    private static final String DETAIL = "Too many requests, please retry later";
+
+    private final ObjectMapper objectMapper;
+
+    private final List<Policy> policies;
+
+    private final RedisRateLimitCounter clusterCounter;
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitingFilter(
+            final ObjectMapper objectMapper,
+            final Map<String, RateLimitConfig.PolicyProperties> policies,
+            final RedisRateLimitCounter clusterCounter,
+            final long maxLocalKeys,
+            final MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.clusterCounter = clusterCounter;
+        this.policies =
+                policies.entrySet().stream()
+                        .map(
+                                entry ->
+                                        new Policy(
+                                                entry.getKey(),
+                                                entry.getValue(),
+                                                rejectedCounter(entry.getKey(), meterRegistry)))
+                        .toList();
+
+        // Idle buckets are full again after their refill period, so they can be dropped
+        final var longestRefill =
+                policies.values().stream()
+                        .map(RateLimitConfig.PolicyProperties::refillPeriod)
+                        .max(Duration::compareTo)
+                        .orElse(Duration.ofMinutes(1));
+        this.buckets =
+                Caffeine.newBuilder()
+                        .maximumSize(maxLocalKeys)
+                        .expireAfterAccess(longestRefill)
+                        .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull final HttpServletRequest request) {
+        return policyFor(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull final HttpServletRequest request,
+            @NonNull final HttpServletResponse response,
+            @NonNull final FilterChain filterChain)
+            throws ServletException, IOException {
+        final var policy = policyFor(request).orElseThrow();
+        final var properties = policy.properties();
+
+        final var bodyNeeded =
+                properties.keys().contains(RateLimitKey.USERNAME)
+                        || properties.keys().contains(RateLimitKey.EMAIL);
+        final var replayableRequest = bodyNeeded ? new ReplayableBodyRequest(request) : request;
+        final var keys = resolveKeys(policy, replayableRequest);
+
+        final var retryAfter =
+                consumeLocal(properties, keys).or(() -> consumeCluster(policy, keys));
+        if (retryAfter.isPresent()) {
+            policy.rejected().increment();
+            reject(request, response, retryAfter.get());
+            return;
+        }
+
+        filterChain.doFilter(replayableRequest, response);
+    }
+
+    private Optional<Policy> policyFor(final HttpServletRequest request) {
+        final var path = request.getRequestURI().substring(request.getContextPath().length());
+
+        return policies.stream()
+                .filter(policy -> policy.properties().method().matches(request.getMethod()))
+                .filter(policy -> policy.properties().paths().contains(path))
+                .findFirst();
+    }
+
+    private List<String> resolveKeys(final Policy policy, final HttpServletRequest request) {
+        final var keys = new ArrayList<String>();
+        final var body =
+                request instanceof ReplayableBodyRequest replayable ? replayable.json() : null;
+
+        for (final var keyType : policy.properties().keys()) {
+            final var value =
+                    switch (keyType) {
+                        // The client address behind trusted proxies, see forward-headers-strategy
+                        case IP -> request.getRemoteAddr();
+                        case USERNAME -> field(body, "username");
+                        case EMAIL ->
+                                Optional.ofNullable(field(body, "email"))
+                                        .orElseGet(() -> request.getParameter("email"));
+                    };
+            if (value != null && !value.isBlank()) {
+                keys.add(
+                        "%s:%s:%s"
+                                .formatted(
+                                        policy.name(),
+                                        keyType.name().toLowerCase(Locale.ROOT),
+                                        value.strip().toLowerCase(Locale.ROOT)));
+            }
+        }
+
+        return keys;
+    }
+
+    private Optional<Duration> consumeLocal(
+            final RateLimitConfig.PolicyProperties properties, final List<String> keys) {
+        for (final var key : keys) {
+            final var wait =
+                    buckets.get(
+                                    key,
+                                    ignored ->
+                                            new TokenBucket(
+                                                    properties.capacity(),
+                                                    properties.refillPeriod()))
+                            .tryConsume();
+            if (!wait.isZero()) {
+                return Optional.of(wait);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Duration> consumeCluster(final Policy policy, final List<String> keys) {
+        final var properties = policy.properties();
+        if (clusterCounter == null || properties.clusterLimit() == null || keys.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            final var wait =
+                    clusterCounter.increment(
+                            keys, properties.clusterLimit(), properties.refillPeriod());
+            return wait.isZero() ? Optional.empty() : Optional.of(wait);
+        } catch (DataAccessException e) {
+            log.warn(
+                    "Cluster rate limit unavailable for policy {}, using local limits",
+                    policy.name(),
+                    e);
+            return Optional.empty();
+        }
+    }
+
+    private void reject(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Duration retryAfter)
+            throws IOException {
+        // Round up so clients never retry before a token is available
+        final var retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getWriter(),
+                forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, DETAIL)
+                        .withErrorType(ErrorType.TOO_MANY_REQUESTS)
+                        .withProperty(
+                                "apiErrorResponse",
+                                ApiErrorResponse.of(
+                                        "TOO_MANY_REQUESTS", DETAIL, request.getRequestURI()))
+                        .build());
+    }
+
+    private static Counter rejectedCounter(final String policy, final MeterRegistry registry) {
+        return Counter.builder("rate-limit.rejected")
+                .description("Requests rejected by a rate limit policy")
+                .tag("policy", policy)
+                .register(registry);
+    }
+
+    private static String field(final JsonNode body, final String name) {
+        if (body == null) {
+            return null;
+        }
+        final var value = body.get(name);
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+
+    private record Policy(
+            String name, RateLimitConfig.PolicyProperties properties, Counter rejected) {}
+
+    // Reads the head of the body once for key extraction and replays it to the controller
+    private final class ReplayableBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+
+        private JsonNode json;
+
+        private boolean streamUsed;
+
+        ReplayableBodyRequest(final HttpServletRequest request) throws IOException {
+            super(request);
+            this.head = request.getInputStream().readNBytes(MAX_PARSED_BODY_BYTES + 1);
+        }
+
+        JsonNode json() {
+            if (json == null && head.length > 0 && head.length <= MAX_PARSED_BODY_BYTES) {
+                try {
+                    json = objectMapper.readTree(head);
+                } catch (IOException e) {
+                    // Malformed bodies are rejected by the controller; limit by the other keys
+                    log.debug("Could not parse request body for rate limit keys", e);
+                }
+            }
+            return json;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (streamUsed) {
+                throw new IllegalStateException("Request body has already been read");
+            }
+            streamUsed = true;
+
+            final var remainder =
+                    head.length > MAX_PARSED_BODY_BYTES
+                            ? super.getInputStream()
+                            : InputStream.nullInputStream();
+            return new ReplayInputStream(
+                    new SequenceInputStream(new ByteArrayInputStream(head), remainder));
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            final var encoding = getCharacterEncoding();
+            final var charset =
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class ReplayInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+
+        private boolean finished;
+
+        ReplayInputStream(final InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var value = delegate.read();
+            finished = value == -1;
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length)
+                throws IOException {
+            final var count = delegate.read(buffer, offset, length);
+            finished = count == -1;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        // The head is already buffered, so data is available right away; a remainder beyond the
+        // parsed limit is read from the original stream, which may block
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            try {
+                readListener.onDataAvailable();
+                if (finished) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
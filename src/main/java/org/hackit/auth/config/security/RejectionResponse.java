@@ -0,0 +1,103 @@
+package org.hackit.auth.config.security;
+
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hackit.auth.exception.ErrorType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Under bot traffic most requests end in a 401 or 403, so the constant body is serialized once
+// and written as raw bytes. Every rejection is counted; at most one line per interval is logged.
+@Slf4j
+final class RejectionResponse {
+
+    static final Duration LOG_INTERVAL = Duration.ofSeconds(10);
+
+    private final HttpStatus status;
+
+    private final byte[] body;
+
+    private final Counter rejected;
+
+    private final long logIntervalNanos;
+
+    private final AtomicLong nextLogAt = new AtomicLong(System.nanoTime());
+
+    private final AtomicLong suppressed = new AtomicLong();
+
+    RejectionResponse(
+            final ObjectMapper objectMapper,
+            final HttpStatus status,
+            final ErrorType errorType,
+            final MeterRegistry meterRegistry,
+            final Duration logInterval) {
+        this.status = status;
+        this.body = serialize(objectMapper, status, errorType);
+        this.rejected =
+                Counter.builder("http.server.requests.rejected")
+                        .description("Requests rejected by bearer token authentication")
+                        .tag("status", String.valueOf(status.value()))
+                        .register(meterRegistry);
+        this.logIntervalNanos = logInterval.toNanos();
+    }
+
+    void write(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Exception cause)
+            throws IOException {
+        rejected.increment();
+        logSampled(request, cause);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void logSampled(final HttpServletRequest request, final Exception cause) {
+        final var now = System.nanoTime();
+        final var logAt = nextLogAt.get();
+        // One thread per interval wins the slot and reports how many rejections were skipped
+        if (now - logAt < 0 || !nextLogAt.compareAndSet(logAt, now + logIntervalNanos)) {
+            suppressed.incrementAndGet();
+            log.debug(
+                    "{} {}: {}",
+                    status.getReasonPhrase(),
+                    request.getRequestURI(),
+                    cause.getMessage());
+            return;
+        }
+
+        log.info(
+                "{} {}: {} ({} similar rejections not logged)",
+                status.getReasonPhrase(),
+                request.getRequestURI(),
+                cause.getMessage(),
+                suppressed.getAndSet(0));
+    }
+
+    private static byte[] serialize(
+            final ObjectMapper objectMapper, final HttpStatus status, final ErrorType errorType) {
+        try {
+            return objectMapper.writeValueAsBytes(
+                    forStatus(status).withErrorType(errorType).build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Failed to serialize %s response".formatted(status), e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.hackit.auth.config.security;
+
+import org.hackit.auth.repository.AccessTokenRevocations;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RevokedJwtValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOKED =
+            new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Token has been revoked", null);
+
+    private final AccessTokenRevocations accessTokenRevocations;
+
+    @Override
+    public OAuth2TokenValidatorResult validate(final Jwt jwt) {
+        if (jwt.getId() != null && accessTokenRevocations.isRevoked(jwt.getId())) {
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+
+        return OAuth2TokenValidatorResult.success();
+    }
+}
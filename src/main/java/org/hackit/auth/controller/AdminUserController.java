@@ -0,0 +1,48 @@
+package org.hackit.auth.controller;
+
+import java.util.UUID;
+
+import org.hackit.auth.dto.ApiErrorResponse;
+import org.hackit.auth.dto.SessionRevocationResponseDto;
+import org.hackit.auth.service.SessionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "API администрирования пользователей")
+public class AdminUserController {
+
+    private final SessionService sessionService;
+
+    @DeleteMapping("/{userId}/sessions")
+    @Operation(
+            summary = "Отзыв всех сессий пользователя",
+            description = "Отзывает все refresh token пользователя, например при утечке токенов")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Все сессии отозваны"),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Нет прав администратора",
+                        content =
+                                @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            })
+    public ResponseEntity<SessionRevocationResponseDto> revokeAllSessions(
+            @PathVariable final UUID userId) {
+        return ResponseEntity.ok(
+                new SessionRevocationResponseDto(sessionService.revokeAllSessions(userId)));
+    }
+}
@@ -10,6 +10,8 @@ import org.hackit.auth.dto.AuthenticationRequestDto;
 import org.hackit.auth.dto.AuthenticationResponseDto;
 import org.hackit.auth.service.AuthenticationService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -101,8 +103,10 @@ public class AuthenticationController {
                                 @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
             })
     public ResponseEntity<Void> revokeToken(
-            @CookieValue(REFRESH_TOKEN_COOKIE_NAME) final String refreshToken) {
+            @CookieValue(REFRESH_TOKEN_COOKIE_NAME) final String refreshToken,
+            @AuthenticationPrincipal final Jwt accessToken) {
         authenticationService.revokeRefreshToken(refreshToken);
+        authenticationService.revokeAccessToken(accessToken);
 
         return ResponseEntity.noContent()
                 .header(SET_COOKIE, removeCookie(REFRESH_TOKEN_COOKIE_NAME).toString())
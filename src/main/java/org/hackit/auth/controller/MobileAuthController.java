@@ -8,6 +8,8 @@ import org.hackit.auth.dto.MobileAuthResponseDto;
 import org.hackit.auth.dto.RefreshTokenRequestDto;
 import org.hackit.auth.service.AuthenticationService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -98,8 +100,10 @@ public class MobileAuthController {
                                 @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
             })
     public ResponseEntity<Void> revokeToken(
-            @Valid @RequestBody final RefreshTokenRequestDto requestDto) {
+            @Valid @RequestBody final RefreshTokenRequestDto requestDto,
+            @AuthenticationPrincipal final Jwt accessToken) {
         authenticationService.revokeRefreshToken(requestDto.refreshToken());
+        authenticationService.revokeAccessToken(accessToken);
 
         return ResponseEntity.noContent().build();
     }
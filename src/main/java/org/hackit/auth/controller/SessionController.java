@@ -0,0 +1,100 @@
+package org.hackit.auth.controller;
+
+import static org.hackit.auth.exception.ErrorType.REQUEST_VALIDATION_FAILED;
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
+import static org.hackit.auth.model.AuthTokens.REFRESH_TOKEN_COOKIE_NAME;
+import static org.hackit.auth.util.CookieUtil.removeCookie;
+import static org.springframework.http.HttpHeaders.SET_COOKIE;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import org.hackit.auth.dto.ApiErrorResponse;
+import org.hackit.auth.dto.SessionRevocationResponseDto;
+import org.hackit.auth.dto.SessionsResponseDto;
+import org.hackit.auth.exception.RestErrorResponseException;
+import org.hackit.auth.service.AuthenticationService;
+import org.hackit.auth.service.SessionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/user/sessions")
+@RequiredArgsConstructor
+@Tag(name = "Sessions", description = "API для управления сессиями пользователя")
+public class SessionController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SessionService sessionService;
+
+    private final AuthenticationService authenticationService;
+
+    @GetMapping
+    @Operation(
+            summary = "Список активных сессий",
+            description =
+                    "Возвращает постранично активные refresh token текущего пользователя."
+                            + " Для подписанных refresh token список всегда пуст")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Список сессий"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Некорректные параметры страницы",
+                        content =
+                                @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            })
+    public ResponseEntity<SessionsResponseDto> getSessions(
+            @AuthenticationPrincipal final Jwt accessToken,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RestErrorResponseException(
+                    forStatusAndDetail(
+                                    BAD_REQUEST,
+                                    "Page must be non-negative and size between 1 and %d"
+                                            .formatted(MAX_PAGE_SIZE))
+                            .withErrorType(REQUEST_VALIDATION_FAILED)
+                            .build());
+        }
+
+        final var sessions =
+                sessionService.getSessions(accessToken.getSubject(), PageRequest.of(page, size));
+
+        return ResponseEntity.ok(
+                new SessionsResponseDto(
+                        sessions.getContent(), page, size, sessions.getTotalElements()));
+    }
+
+    @DeleteMapping
+    @Operation(
+            summary = "Выход на всех устройствах",
+            description =
+                    "Отзывает все refresh token пользователя и текущий access token."
+                            + " Access token других устройств действуют до истечения срока")
+    @ApiResponses(
+            value = {@ApiResponse(responseCode = "200", description = "Все сессии отозваны")})
+    public ResponseEntity<SessionRevocationResponseDto> revokeAllSessions(
+            @AuthenticationPrincipal final Jwt accessToken) {
+        final var revoked = sessionService.revokeAllSessions(accessToken.getSubject());
+        authenticationService.revokeAccessToken(accessToken);
+
+        return ResponseEntity.ok()
+                .header(SET_COOKIE, removeCookie(REFRESH_TOKEN_COOKIE_NAME).toString())
+                .body(new SessionRevocationResponseDto(revoked));
+    }
+}
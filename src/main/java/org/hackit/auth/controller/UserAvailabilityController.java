@@ -0,0 +1,66 @@
+package org.hackit.auth.controller;
+
+import static org.hackit.auth.exception.ErrorType.REQUEST_VALIDATION_FAILED;
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import org.hackit.auth.dto.ApiErrorResponse;
+import org.hackit.auth.dto.AvailabilityResponseDto;
+import org.hackit.auth.exception.RestErrorResponseException;
+import org.hackit.auth.service.UserAvailabilityService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Tag(name = "Registration", description = "API для регистрации пользователей")
+public class UserAvailabilityController {
+
+    private final UserAvailabilityService userAvailabilityService;
+
+    @GetMapping("/availability")
+    @Operation(
+            summary = "Проверка доступности имени пользователя и email",
+            description =
+                    "Возвращает, свободны ли переданные имя пользователя и/или email."
+                            + " Ответ носит информационный характер: окончательная проверка"
+                            + " выполняется при регистрации")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Проверка выполнена"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Не передано ни имя пользователя, ни email",
+                        content =
+                                @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            })
+    public ResponseEntity<AvailabilityResponseDto> checkAvailability(
+            @RequestParam(required = false) final String username,
+            @RequestParam(required = false) final String email) {
+        if (username == null && email == null) {
+            throw new RestErrorResponseException(
+                    forStatusAndDetail(BAD_REQUEST, "Either username or email is required")
+                            .withErrorType(REQUEST_VALIDATION_FAILED)
+                            .build());
+        }
+
+        return ResponseEntity.ok(
+                new AvailabilityResponseDto(
+                        username != null
+                                ? userAvailabilityService.isUsernameAvailable(username)
+                                : null,
+                        email != null ? userAvailabilityService.isEmailAvailable(email) : null));
+    }
+}
@@ -5,6 +5,7 @@ import org.hackit.auth.mapper.UserMapper;
 import org.hackit.auth.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,12 +18,16 @@ import lombok.RequiredArgsConstructor;
 public class UserProfileController {
 
     private final UserService userService;
+
     private final UserMapper userMapper;
 
+    // Tokens issued with jwt.profile-claims carry the profile; older tokens fall back to a lookup
     @GetMapping("/me")
     public ResponseEntity<UserProfileDto> getUserProfile(final Authentication authentication) {
-        final var user = userService.getUserByUsername(authentication.getName());
+        if (authentication.getPrincipal() instanceof Jwt jwt && userMapper.hasProfileClaims(jwt)) {
+            return ResponseEntity.ok(userMapper.toUserProfileDto(jwt));
+        }
 
-        return ResponseEntity.ok(userMapper.toUserProfileDto(user));
+        return ResponseEntity.ok(userService.getUserProfile(authentication.getName()));
     }
 }
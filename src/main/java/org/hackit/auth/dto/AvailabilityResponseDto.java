@@ -0,0 +1,11 @@
+package org.hackit.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DTO ответа проверки доступности имени пользователя и email")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityResponseDto(
+        @Schema(description = "Свободно ли имя пользователя") Boolean username,
+        @Schema(description = "Свободен ли email") Boolean email) {}
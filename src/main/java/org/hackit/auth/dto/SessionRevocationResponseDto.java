@@ -0,0 +1,8 @@
+package org.hackit.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DTO ответа отзыва всех сессий пользователя")
+public record SessionRevocationResponseDto(
+        @Schema(description = "Количество отозванных сессий; 0, если хранилище их не отслеживает")
+                long revokedSessions) {}
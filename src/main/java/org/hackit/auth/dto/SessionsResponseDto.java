@@ -0,0 +1,15 @@
+package org.hackit.auth.dto;
+
+import java.util.List;
+
+import org.hackit.auth.model.RefreshTokenSession;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DTO ответа со списком активных сессий пользователя")
+public record SessionsResponseDto(
+        @Schema(description = "Активные сессии, начиная с самой новой")
+                List<RefreshTokenSession> sessions,
+        @Schema(description = "Номер страницы") int page,
+        @Schema(description = "Размер страницы") int size,
+        @Schema(description = "Общее количество активных сессий") long totalSessions) {}
@@ -0,0 +1,27 @@
+package org.hackit.auth.entity;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+import java.util.EnumSet;
+
+import org.hackit.auth.util.UuidUtil;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(
+            final SharedSessionContractImplementor session,
+            final Object owner,
+            final Object currentValue,
+            final EventType eventType) {
+        return UuidUtil.generateUuidV7();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
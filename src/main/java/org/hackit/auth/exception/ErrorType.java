@@ -18,6 +18,8 @@ public enum ErrorType {
     EMAIL_VERIFICATION_REQUIRED(create("errors/email-verification-required")),
     EMAIL_VERIFICATION_FAILED(create("errors/email-verification-failed")),
     EMAIL_ALREADY_VERIFIED(create("errors/email-already-verified")),
+    SERVICE_OVERLOADED(create("errors/service-overloaded")),
+    TOO_MANY_REQUESTS(create("errors/too-many-requests")),
     UNKNOWN_SERVER_ERROR(create("errors/unknown-server-error"));
 
     private final URI uri;
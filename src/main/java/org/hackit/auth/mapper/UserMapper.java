@@ -2,6 +2,8 @@ package org.hackit.auth.mapper;
 
 import org.hackit.auth.dto.UserProfileDto;
 import org.hackit.auth.entity.User;
+import org.hackit.auth.service.JwtService;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -10,4 +12,16 @@ public class UserMapper {
     public UserProfileDto toUserProfileDto(final User user) {
         return new UserProfileDto(user.getEmail(), user.getUsername(), user.isEmailVerified());
     }
+
+    public boolean hasProfileClaims(final Jwt jwt) {
+        return jwt.hasClaim(JwtService.EMAIL_CLAIM)
+                && jwt.hasClaim(JwtService.EMAIL_VERIFIED_CLAIM);
+    }
+
+    public UserProfileDto toUserProfileDto(final Jwt jwt) {
+        return new UserProfileDto(
+                jwt.getClaimAsString(JwtService.EMAIL_CLAIM),
+                jwt.getSubject(),
+                Boolean.TRUE.equals(jwt.getClaimAsBoolean(JwtService.EMAIL_VERIFIED_CLAIM)));
+    }
 }
@@ -0,0 +1,20 @@
+package org.hackit.auth.model;
+
+import java.util.List;
+
+import org.springframework.security.core.userdetails.User;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class AuthenticatedUser extends User {
+
+    private final UserIdentity identity;
+
+    public AuthenticatedUser(final UserIdentity identity, final String password) {
+        super(identity.username(), password, List.of());
+        this.identity = identity;
+    }
+}
@@ -0,0 +1,8 @@
+package org.hackit.auth.model;
+
+public enum OtpVerification {
+    VALID,
+    INVALID,
+    NOT_FOUND,
+    TOO_MANY_ATTEMPTS
+}
@@ -0,0 +1,6 @@
+package org.hackit.auth.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record RefreshTokenDetails(String token, UUID userId, String username, Instant expiresAt) {}
@@ -0,0 +1,6 @@
+package org.hackit.auth.model;
+
+import java.time.Instant;
+
+// Never carries the token id: for the JPA and Redis stores the id is the refresh token itself
+public record RefreshTokenSession(Instant createdAt, Instant expiresAt) {}
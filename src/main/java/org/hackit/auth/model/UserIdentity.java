@@ -0,0 +1,15 @@
+package org.hackit.auth.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.hackit.auth.entity.User;
+
+public record UserIdentity(UUID id, String username, String email, boolean emailVerified)
+        implements Serializable {
+
+    public static UserIdentity from(final User user) {
+        return new UserIdentity(
+                user.getId(), user.getUsername(), user.getEmail(), user.isEmailVerified());
+    }
+}
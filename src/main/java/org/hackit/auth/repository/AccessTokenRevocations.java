@@ -0,0 +1,21 @@
+package org.hackit.auth.repository;
+
+import java.time.Instant;
+
+public interface AccessTokenRevocations {
+
+    AccessTokenRevocations NONE =
+            new AccessTokenRevocations() {
+                @Override
+                public void revoke(final String jwtId, final Instant expiresAt) {}
+
+                @Override
+                public boolean isRevoked(final String jwtId) {
+                    return false;
+                }
+            };
+
+    void revoke(String jwtId, Instant expiresAt);
+
+    boolean isRevoked(String jwtId);
+}
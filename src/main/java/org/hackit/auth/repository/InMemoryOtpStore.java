@@ -0,0 +1,99 @@
+package org.hackit.auth.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hackit.auth.model.OtpVerification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+// Per-node store for single-instance deployments and tests. Entries expire through Caffeine's
+// timer wheel. The size bound is enforced by W-TinyLFU, not LRU: once full, a new code competes
+// with the least valuable resident one by access frequency and may itself be dropped, so
+// maximumSize must stay well above the number of codes live at once.
+public class InMemoryOtpStore implements OtpStore {
+
+    private final Cache<String, Entry> codes;
+
+    public InMemoryOtpStore(final long maximumSize) {
+        this(maximumSize, ForkJoinPool.commonPool());
+    }
+
+    // Eviction runs on the executor; tests pass a same-thread one to make it deterministic
+    InMemoryOtpStore(final long maximumSize, final Executor executor) {
+        this.codes =
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(new EntryTtl())
+                        .executor(executor)
+                        .build();
+    }
+
+    @Override
+    public void save(final String key, final String hash, final Duration ttl) {
+        codes.put(key, new Entry(hash, ttl, 0));
+    }
+
+    @Override
+    public Optional<String> find(final String key) {
+        return Optional.ofNullable(codes.getIfPresent(key)).map(Entry::hash);
+    }
+
+    @Override
+    public OtpVerification verifyAndConsume(
+            final String key, final String candidateHash, final int maxAttempts) {
+        final var result = new OtpVerification[] {OtpVerification.NOT_FOUND};
+
+        codes.asMap()
+                .computeIfPresent(
+                        key,
+                        (ignored, entry) -> {
+                            if (entry.hash().equals(candidateHash)) {
+                                result[0] = OtpVerification.VALID;
+                                return null;
+                            }
+                            if (entry.attempts() + 1 >= maxAttempts) {
+                                result[0] = OtpVerification.TOO_MANY_ATTEMPTS;
+                                return null;
+                            }
+                            result[0] = OtpVerification.INVALID;
+                            return new Entry(entry.hash(), entry.ttl(), entry.attempts() + 1);
+                        });
+
+        return result[0];
+    }
+
+    private record Entry(String hash, Duration ttl, int attempts) {}
+
+    // A failed attempt keeps the remaining lifetime; a newly saved code starts a full TTL
+    private static class EntryTtl implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(
+                final String key, final Entry entry, final long currentTime) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String key,
+                final Entry entry,
+                final long currentTime,
+                final long duration) {
+            return entry.attempts() == 0 ? entry.ttl().toNanos() : duration;
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String key,
+                final Entry entry,
+                final long currentTime,
+                final long duration) {
+            return duration;
+        }
+    }
+}
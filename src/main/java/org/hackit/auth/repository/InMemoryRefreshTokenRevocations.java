@@ -0,0 +1,73 @@
+package org.hackit.auth.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+public class InMemoryRefreshTokenRevocations implements RefreshTokenRevocations {
+
+    // No size bound: evicting a revocation before the token expires would re-enable the token
+    private final Cache<UUID, Instant> revoked =
+            Caffeine.newBuilder()
+                    .expireAfter(new UntilTokenExpires<UUID, Instant>(Function.identity()))
+                    .build();
+
+    private final Cache<UUID, UserRevocation> revokedUsers =
+            Caffeine.newBuilder()
+                    .expireAfter(
+                            new UntilTokenExpires<UUID, UserRevocation>(
+                                    UserRevocation::retainUntil))
+                    .build();
+
+    @Override
+    public void revoke(final UUID tokenId, final Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(final UUID tokenId) {
+        return revoked.getIfPresent(tokenId) != null;
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(
+            final UUID userId, final Instant issuedBefore, final Instant retainUntil) {
+        revokedUsers.put(userId, new UserRevocation(issuedBefore, retainUntil));
+    }
+
+    @Override
+    public Optional<Instant> revokedBefore(final UUID userId) {
+        return Optional.ofNullable(revokedUsers.getIfPresent(userId))
+                .map(UserRevocation::issuedBefore);
+    }
+
+    private record UserRevocation(Instant issuedBefore, Instant retainUntil) {}
+
+    private record UntilTokenExpires<K, V>(Function<V, Instant> expiresAt)
+            implements Expiry<K, V> {
+
+        @Override
+        public long expireAfterCreate(final K key, final V value, final long currentTime) {
+            return Math.max(
+                    0, Duration.between(Instant.now(), expiresAt.apply(value)).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final K key, final V value, final long currentTime, final long duration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                final K key, final V value, final long currentTime, final long duration) {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.hackit.auth.repository;
+
+import static org.hackit.auth.repository.RefreshTokenStore.parseTokenId;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.entity.RefreshToken;
+import org.hackit.auth.model.RefreshTokenDetails;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final UserRepository userRepository;
+
+    @Override
+    public RefreshTokenDetails issue(
+            final UUID userId, final String username, final Instant expiresAt) {
+        final var refreshToken = new RefreshToken();
+        refreshToken.setUser(userRepository.getReferenceById(userId));
+        refreshToken.setExpiresAt(expiresAt);
+        refreshTokenRepository.save(refreshToken);
+
+        return new RefreshTokenDetails(
+                refreshToken.getId().toString(), userId, username, expiresAt);
+    }
+
+    @Override
+    public Optional<RefreshTokenDetails> findActive(final String token) {
+        return refreshTokenRepository
+                .findActiveOwner(parseTokenId(token), Instant.now())
+                .map(
+                        owner ->
+                                new RefreshTokenDetails(
+                                        token,
+                                        owner.userId(),
+                                        owner.username(),
+                                        owner.expiresAt()));
+    }
+
+    @Override
+    public void revoke(final String token) {
+        refreshTokenRepository.deleteById(parseTokenId(token));
+    }
+
+    @Override
+    public long revokeAll(final UUID userId) {
+        return refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    @Override
+    public Page<RefreshTokenSession> findSessions(final UUID userId, final Pageable pageable) {
+        return refreshTokenRepository.findSessions(userId, Instant.now(), pageable);
+    }
+}
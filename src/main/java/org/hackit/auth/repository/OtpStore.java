@@ -0,0 +1,18 @@
+package org.hackit.auth.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.hackit.auth.model.OtpVerification;
+
+public interface OtpStore {
+
+    // Replaces any previous code for the key and resets its failed attempts
+    void save(String key, String hash, Duration ttl);
+
+    Optional<String> find(String key);
+
+    // Atomically consumes the code if it equals candidateHash, otherwise counts a failed attempt
+    // and drops the code once maxAttempts is reached
+    OtpVerification verifyAndConsume(String key, String candidateHash, int maxAttempts);
+}
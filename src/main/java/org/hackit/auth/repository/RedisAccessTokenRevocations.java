@@ -0,0 +1,119 @@
+package org.hackit.auth.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.hackit.auth.util.BloomFilter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Revoked jti values live in Redis for the rest of the token lifetime. Every node mirrors them
+// in a local Bloom filter kept in sync via pub/sub, so Redis is only consulted on a filter hit.
+// Two filter generations are rotated every access-token TTL to keep the false-positive rate
+// bounded: an entry survives at least one full TTL.
+@Slf4j
+public class RedisAccessTokenRevocations implements AccessTokenRevocations, MessageListener {
+
+    public static final String CHANNEL = "jwt:revoked";
+
+    private static final String REVOKED_KEY = "jwt:revoked:%s";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Duration accessTokenTtl;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private final Clock clock;
+
+    private volatile Generations generations;
+
+    public RedisAccessTokenRevocations(
+            final RedisTemplate<String, String> redisTemplate,
+            final Duration accessTokenTtl,
+            final long expectedInsertions,
+            final double falsePositiveProbability,
+            final Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.accessTokenTtl = accessTokenTtl;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.clock = clock;
+        this.generations = new Generations(newFilter(), newFilter(), clock.instant());
+    }
+
+    @Override
+    public void revoke(final String jwtId, final Instant expiresAt) {
+        final var ttl = Duration.between(clock.instant(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        currentGenerations().current().put(jwtId);
+        redisTemplate.opsForValue().set(REVOKED_KEY.formatted(jwtId), "1", ttl);
+        redisTemplate.convertAndSend(CHANNEL, jwtId);
+    }
+
+    @Override
+    public boolean isRevoked(final String jwtId) {
+        final var generations = currentGenerations();
+        if (!generations.current().mightContain(jwtId)
+                && !generations.previous().mightContain(jwtId)) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY.formatted(jwtId)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to confirm revocation of jti {}, rejecting token", jwtId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        currentGenerations().current().put(new String(message.getBody(), UTF_8));
+    }
+
+    public void loadRevoked() {
+        final var prefixLength = REVOKED_KEY.formatted("").length();
+        final var options = ScanOptions.scanOptions().match(REVOKED_KEY.formatted("*")).build();
+
+        try (final var keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> generations.current().put(key.substring(prefixLength)));
+        }
+    }
+
+    private Generations currentGenerations() {
+        final var now = clock.instant();
+        var snapshot = generations;
+        if (now.isBefore(snapshot.rotatedAt().plus(accessTokenTtl))) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            snapshot = generations;
+            if (!now.isBefore(snapshot.rotatedAt().plus(accessTokenTtl))) {
+                snapshot = new Generations(newFilter(), snapshot.current(), now);
+                generations = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, Instant rotatedAt) {}
+}
@@ -0,0 +1,78 @@
+package org.hackit.auth.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.hackit.auth.model.OtpVerification;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RedisOtpStore implements OtpStore {
+
+    // KEYS[1] = code, KEYS[2] = failed attempts; ARGV[1] = candidate hash, ARGV[2] = max attempts.
+    // Deletes both keys on success or once the attempts are exhausted.
+    private static final RedisScript<Long> VERIFY_AND_CONSUME =
+            RedisScript.of(
+                    """
+                    local stored = redis.call('GET', KEYS[1])
+                    if not stored then
+                        return 0
+                    end
+                    if stored == ARGV[1] then
+                        redis.call('DEL', KEYS[1], KEYS[2])
+                        return 1
+                    end
+                    local attempts = redis.call('INCR', KEYS[2])
+                    if attempts == 1 then
+                        local ttl = redis.call('PTTL', KEYS[1])
+                        if ttl > 0 then
+                            redis.call('PEXPIRE', KEYS[2], ttl)
+                        end
+                    end
+                    if attempts >= tonumber(ARGV[2]) then
+                        redis.call('DEL', KEYS[1], KEYS[2])
+                        return 3
+                    end
+                    return 2
+                    """,
+                    Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void save(final String key, final String hash, final Duration ttl) {
+        redisTemplate.opsForValue().set(key, hash, ttl);
+        redisTemplate.delete(attemptsKey(key));
+    }
+
+    @Override
+    public Optional<String> find(final String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public OtpVerification verifyAndConsume(
+            final String key, final String candidateHash, final int maxAttempts) {
+        final var result =
+                redisTemplate.execute(
+                        VERIFY_AND_CONSUME,
+                        List.of(key, attemptsKey(key)),
+                        candidateHash,
+                        String.valueOf(maxAttempts));
+
+        return switch (result == null ? 0 : result.intValue()) {
+            case 1 -> OtpVerification.VALID;
+            case 2 -> OtpVerification.INVALID;
+            case 3 -> OtpVerification.TOO_MANY_ATTEMPTS;
+            default -> OtpVerification.NOT_FOUND;
+        };
+    }
+
+    private static String attemptsKey(final String key) {
+        return key + ":attempts";
+    }
+}
@@ -0,0 +1,55 @@
+package org.hackit.auth.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.RequiredArgsConstructor;
+
+// Fixed-window counters shared by all nodes. Every key of a request is incremented by one
+// script call, so a rate-limited request costs a single round trip.
+@RequiredArgsConstructor
+public class RedisRateLimitCounter {
+
+    private static final String COUNTER_KEY = "rate-limit:%s:%d";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT =
+            RedisScript.of(
+                    """
+                    local counts = {}
+                    for i, key in ipairs(KEYS) do
+                        counts[i] = redis.call('INCR', key)
+                        if counts[i] == 1 then
+                            redis.call('PEXPIRE', key, ARGV[1])
+                        end
+                    end
+                    return counts
+                    """,
+                    List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Clock clock;
+
+    // Returns the time until the current window closes if any key exceeded the limit
+    public Duration increment(final List<String> keys, final long limit, final Duration window) {
+        final var now = clock.millis();
+        final var windowMillis = window.toMillis();
+        final var windowIndex = now / windowMillis;
+        final var windowKeys =
+                keys.stream().map(key -> COUNTER_KEY.formatted(key, windowIndex)).toList();
+
+        final List<?> counts =
+                redisTemplate.execute(INCREMENT, windowKeys, String.valueOf(windowMillis));
+        if (counts == null
+                || counts.stream().noneMatch(count -> ((Number) count).longValue() > limit)) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofMillis((windowIndex + 1) * windowMillis - now);
+    }
+}
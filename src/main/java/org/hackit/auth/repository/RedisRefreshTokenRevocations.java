@@ -0,0 +1,56 @@
+package org.hackit.auth.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RedisRefreshTokenRevocations implements RefreshTokenRevocations {
+
+    private static final String REVOKED_KEY = "refresh-token:revoked:%s";
+
+    private static final String REVOKED_BEFORE_KEY = "refresh-token:revoked-before:%s";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void revoke(final UUID tokenId, final Instant expiresAt) {
+        final var ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(REVOKED_KEY.formatted(tokenId), "1", ttl);
+    }
+
+    @Override
+    public boolean isRevoked(final UUID tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY.formatted(tokenId)));
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(
+            final UUID userId, final Instant issuedBefore, final Instant retainUntil) {
+        final var ttl = Duration.between(Instant.now(), retainUntil);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate
+                .opsForValue()
+                .set(
+                        REVOKED_BEFORE_KEY.formatted(userId),
+                        String.valueOf(issuedBefore.toEpochMilli()),
+                        ttl);
+    }
+
+    @Override
+    public Optional<Instant> revokedBefore(final UUID userId) {
+        return Optional.ofNullable(
+                        redisTemplate.opsForValue().get(REVOKED_BEFORE_KEY.formatted(userId)))
+                .map(epochMillis -> Instant.ofEpochMilli(Long.parseLong(epochMillis)));
+    }
+}
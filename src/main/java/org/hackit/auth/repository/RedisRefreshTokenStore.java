@@ -0,0 +1,204 @@
+package org.hackit.auth.repository;
+
+import static org.hackit.auth.repository.RefreshTokenStore.parseTokenId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.model.RefreshTokenDetails;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY = "refresh-token:%s";
+
+    private static final String USER_INDEX_KEY = "refresh-token:user:%s";
+
+    private static final String USER_ID = "userId";
+
+    private static final String USERNAME = "username";
+
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private static final String CREATED_AT = "createdAt";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public RefreshTokenDetails issue(
+            final UUID userId, final String username, final Instant expiresAt) {
+        final var now = Instant.now();
+        final var tokenId = UUID.randomUUID().toString();
+        final var tokenKey = TOKEN_KEY.formatted(tokenId);
+        final var userIndexKey = USER_INDEX_KEY.formatted(userId);
+        final var ttl = Duration.between(now, expiresAt);
+        final var fields =
+                Map.of(
+                        USER_ID,
+                        userId.toString(),
+                        USERNAME,
+                        username,
+                        EXPIRES_AT,
+                        String.valueOf(expiresAt.toEpochMilli()),
+                        CREATED_AT,
+                        String.valueOf(now.toEpochMilli()));
+
+        redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(final RedisOperations<K, V> operations)
+                            throws DataAccessException {
+                        final var redis = (RedisOperations<String, String>) operations;
+
+                        redis.<String, String>opsForHash().putAll(tokenKey, fields);
+                        redis.expire(tokenKey, ttl);
+
+                        // Per-user index scored by expiry, pruned of expired entries on each write
+                        redis.opsForZSet().add(userIndexKey, tokenId, expiresAt.toEpochMilli());
+                        redis.opsForZSet().removeRangeByScore(userIndexKey, 0, now.toEpochMilli());
+                        redis.expire(userIndexKey, ttl);
+
+                        return null;
+                    }
+                });
+
+        return new RefreshTokenDetails(tokenId, userId, username, expiresAt);
+    }
+
+    @Override
+    public Optional<RefreshTokenDetails> findActive(final String token) {
+        final var tokenId = parseTokenId(token);
+        final Map<String, String> entries =
+                redisTemplate.<String, String>opsForHash().entries(TOKEN_KEY.formatted(tokenId));
+
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var expiresAt = Instant.ofEpochMilli(Long.parseLong(entries.get(EXPIRES_AT)));
+        if (!expiresAt.isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(
+                new RefreshTokenDetails(
+                        token,
+                        UUID.fromString(entries.get(USER_ID)),
+                        entries.get(USERNAME),
+                        expiresAt));
+    }
+
+    @Override
+    public void revoke(final String token) {
+        final var tokenId = parseTokenId(token).toString();
+        final var tokenKey = TOKEN_KEY.formatted(tokenId);
+        final var userId = redisTemplate.<String, String>opsForHash().get(tokenKey, USER_ID);
+
+        redisTemplate.delete(tokenKey);
+        if (userId != null) {
+            redisTemplate.opsForZSet().remove(USER_INDEX_KEY.formatted(userId), tokenId);
+        }
+    }
+
+    // Single-key commands only, so this also works on Redis Cluster. Tokens issued while it runs
+    // are missing from the index snapshot and stay valid, as if issued right after the call.
+    @Override
+    public long revokeAll(final UUID userId) {
+        final var userIndexKey = USER_INDEX_KEY.formatted(userId);
+        final var tokenIds = redisTemplate.opsForZSet().range(userIndexKey, 0, -1);
+        if (tokenIds == null || tokenIds.isEmpty()) {
+            return 0;
+        }
+
+        final var results =
+                redisTemplate.executePipelined(
+                        new SessionCallback<Object>() {
+                            @Override
+                            @SuppressWarnings("unchecked")
+                            public <K, V> Object execute(final RedisOperations<K, V> operations)
+                                    throws DataAccessException {
+                                final var redis = (RedisOperations<String, String>) operations;
+                                for (final var tokenId : tokenIds) {
+                                    redis.delete(TOKEN_KEY.formatted(tokenId));
+                                }
+                                redis.opsForZSet().remove(userIndexKey, tokenIds.toArray());
+                                return null;
+                            }
+                        });
+
+        // One DEL result per token, then the ZREM count; expired tokens are already gone
+        return results.subList(0, tokenIds.size()).stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    @Override
+    public Page<RefreshTokenSession> findSessions(final UUID userId, final Pageable pageable) {
+        final var userIndexKey = USER_INDEX_KEY.formatted(userId);
+        final var now = Instant.now().toEpochMilli();
+        final var zSet = redisTemplate.opsForZSet();
+
+        final var total = zSet.count(userIndexKey, now, Double.POSITIVE_INFINITY);
+        final var tokenIds =
+                zSet.reverseRangeByScore(
+                        userIndexKey,
+                        now,
+                        Double.POSITIVE_INFINITY,
+                        pageable.getOffset(),
+                        pageable.getPageSize());
+        if (tokenIds == null || tokenIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total == null ? 0 : total);
+        }
+
+        final var hashes =
+                redisTemplate.executePipelined(
+                        new SessionCallback<Object>() {
+                            @Override
+                            @SuppressWarnings("unchecked")
+                            public <K, V> Object execute(final RedisOperations<K, V> operations)
+                                    throws DataAccessException {
+                                final var redis = (RedisOperations<String, String>) operations;
+                                for (final var tokenId : tokenIds) {
+                                    redis.<String, String>opsForHash()
+                                            .multiGet(
+                                                    TOKEN_KEY.formatted(tokenId),
+                                                    List.of(CREATED_AT, EXPIRES_AT));
+                                }
+                                return null;
+                            }
+                        });
+
+        final var sessions = new ArrayList<RefreshTokenSession>(hashes.size());
+        for (final var hash : hashes) {
+            final var values = (List<?>) hash;
+            if (values.get(1) != null) {
+                sessions.add(
+                        new RefreshTokenSession(
+                                toInstant(values.get(0)), toInstant(values.get(1))));
+            }
+        }
+
+        return new PageImpl<>(sessions, pageable, total == null ? 0 : total);
+    }
+
+    // Tokens issued before createdAt was recorded have no creation time
+    private static Instant toInstant(final Object epochMillis) {
+        return epochMillis == null
+                ? null
+                : Instant.ofEpochMilli(Long.parseLong(epochMillis.toString()));
+    }
+}
@@ -5,11 +5,44 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.hackit.auth.entity.RefreshToken;
+import org.hackit.auth.model.RefreshTokenOwner;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByIdAndExpiresAtAfter(UUID id, Instant expiresAt);
+    // Read-write so it runs on the primary: a lagging replica would still accept revoked tokens
+    // and reject tokens issued a moment ago
+    @Transactional
+    @Query(
+            "select new org.hackit.auth.model.RefreshTokenOwner("
+                    + "t.user.id, t.user.username, t.expiresAt)"
+                    + " from RefreshToken t where t.id = :id and t.expiresAt > :now")
+    Optional<RefreshTokenOwner> findActiveOwner(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Transactional(readOnly = true)
+    @Query(
+            value =
+                    "select new org.hackit.auth.model.RefreshTokenSession(t.createdAt, t.expiresAt)"
+                            + " from RefreshToken t"
+                            + " where t.user.id = :userId and t.expiresAt > :now"
+                            + " order by t.createdAt desc",
+            countQuery =
+                    "select count(t) from RefreshToken t"
+                            + " where t.user.id = :userId and t.expiresAt > :now")
+    Page<RefreshTokenSession> findSessions(
+            @Param("userId") UUID userId, @Param("now") Instant now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,18 @@
+package org.hackit.auth.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRevocations {
+
+    void revoke(UUID tokenId, Instant expiresAt);
+
+    boolean isRevoked(UUID tokenId);
+
+    // Revokes every token of the user issued up to issuedBefore; the marker is kept until
+    // retainUntil, when all such tokens have expired
+    void revokeAllIssuedBefore(UUID userId, Instant issuedBefore, Instant retainUntil);
+
+    Optional<Instant> revokedBefore(UUID userId);
+}
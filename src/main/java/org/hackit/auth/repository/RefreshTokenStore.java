@@ -0,0 +1,34 @@
+package org.hackit.auth.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.model.RefreshTokenDetails;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.BadCredentialsException;
+
+public interface RefreshTokenStore {
+
+    RefreshTokenDetails issue(UUID userId, String username, Instant expiresAt);
+
+    Optional<RefreshTokenDetails> findActive(String token);
+
+    void revoke(String token);
+
+    // Revokes every refresh token of the user without loading them; returns the number revoked
+    // where the store can tell
+    long revokeAll(UUID userId);
+
+    Page<RefreshTokenSession> findSessions(UUID userId, Pageable pageable);
+
+    static UUID parseTokenId(final String token) {
+        try {
+            return UUID.fromString(token);
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid refresh token format");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.hackit.auth.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.model.RefreshTokenDetails;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.hackit.auth.util.HmacSha256;
+import org.hackit.auth.util.UuidUtil;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.BadCredentialsException;
+
+// Token = base64url(payload) "." base64url(HMAC-SHA256(payload)), where the payload carries
+// version, token id, user id, expiry and username. Only revocations need a lookup. Token ids
+// are UUIDv7, so their timestamp tells whether a token predates a revoke-all of its user.
+public class SignedRefreshTokenStore implements RefreshTokenStore {
+
+    private static final byte VERSION = 1;
+
+    private static final int FIXED_PAYLOAD_LENGTH = 1 + 16 + 16 + Long.BYTES;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final HmacSha256 mac;
+
+    private final RefreshTokenRevocations revocations;
+
+    private final Duration tokenTtl;
+
+    public SignedRefreshTokenStore(
+            final byte[] secret,
+            final RefreshTokenRevocations revocations,
+            final Duration tokenTtl) {
+        if (secret.length < HmacSha256.MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "Refresh token secret must be at least %d bytes"
+                            .formatted(HmacSha256.MIN_SECRET_LENGTH));
+        }
+        this.mac = new HmacSha256(secret);
+        this.revocations = revocations;
+        this.tokenTtl = tokenTtl;
+    }
+
+    @Override
+    public RefreshTokenDetails issue(
+            final UUID userId, final String username, final Instant expiresAt) {
+        final var tokenId = UuidUtil.generateUuidV7();
+        final var expiresAtSeconds = Instant.ofEpochSecond(expiresAt.getEpochSecond());
+        final var usernameBytes = username.getBytes(UTF_8);
+        final var payload =
+                ByteBuffer.allocate(FIXED_PAYLOAD_LENGTH + usernameBytes.length)
+                        .put(VERSION)
+                        .putLong(tokenId.getMostSignificantBits())
+                        .putLong(tokenId.getLeastSignificantBits())
+                        .putLong(userId.getMostSignificantBits())
+                        .putLong(userId.getLeastSignificantBits())
+                        .putLong(expiresAtSeconds.getEpochSecond())
+                        .put(usernameBytes)
+                        .array();
+
+        final var token =
+                ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+
+        return new RefreshTokenDetails(token, userId, username, expiresAtSeconds);
+    }
+
+    @Override
+    public Optional<RefreshTokenDetails> findActive(final String token) {
+        return verify(token)
+                .filter(claims -> claims.details().expiresAt().isAfter(Instant.now()))
+                .filter(claims -> !revocations.isRevoked(claims.tokenId()))
+                .filter(claims -> !isRevokedForUser(claims))
+                .map(Claims::details);
+    }
+
+    @Override
+    public void revoke(final String token) {
+        verify(token)
+                .ifPresent(
+                        claims ->
+                                revocations.revoke(
+                                        claims.tokenId(), claims.details().expiresAt()));
+    }
+
+    @Override
+    public long revokeAll(final UUID userId) {
+        final var now = Instant.now();
+        revocations.revokeAllIssuedBefore(userId, now, now.plus(tokenTtl));
+
+        // Signed tokens are not tracked, so the number revoked is unknown
+        return 0;
+    }
+
+    @Override
+    public Page<RefreshTokenSession> findSessions(final UUID userId, final Pageable pageable) {
+        return Page.empty(pageable);
+    }
+
+    private boolean isRevokedForUser(final Claims claims) {
+        return revocations
+                .revokedBefore(claims.details().userId())
+                .filter(revokedBefore -> !issuedAt(claims.tokenId()).isAfter(revokedBefore))
+                .isPresent();
+    }
+
+    // Ids of tokens issued before UUIDv7 was used carry no time and count as oldest
+    private static Instant issuedAt(final UUID tokenId) {
+        return tokenId.version() == 7
+                ? Instant.ofEpochMilli(tokenId.getMostSignificantBits() >>> 16)
+                : Instant.EPOCH;
+    }
+
+    private Optional<Claims> verify(final String token) {
+        final var separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw invalidFormat();
+        }
+
+        final byte[] payload;
+        final byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalidFormat();
+        }
+
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var buffer = ByteBuffer.wrap(payload);
+            if (buffer.get() != VERSION) {
+                throw invalidFormat();
+            }
+            final var tokenId = new UUID(buffer.getLong(), buffer.getLong());
+            final var userId = new UUID(buffer.getLong(), buffer.getLong());
+            final var expiresAt = Instant.ofEpochSecond(buffer.getLong());
+            final var username = UTF_8.decode(buffer).toString();
+
+            return Optional.of(
+                    new Claims(
+                            tokenId, new RefreshTokenDetails(token, userId, username, expiresAt)));
+        } catch (BufferUnderflowException e) {
+            throw invalidFormat();
+        }
+    }
+
+    private byte[] sign(final byte[] payload) {
+        return mac.sign(payload);
+    }
+
+    private static BadCredentialsException invalidFormat() {
+        return new BadCredentialsException("Invalid refresh token format");
+    }
+
+    private record Claims(UUID tokenId, RefreshTokenDetails details) {}
+}
@@ -1,11 +1,23 @@
 package org.hackit.auth.repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hackit.auth.dto.UserProfileDto;
 import org.hackit.auth.entity.User;
+import org.hackit.auth.model.UserIdentity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -14,7 +26,50 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByEmail(String email);
 
+    @Query(
+            "select new org.hackit.auth.model.UserIdentity("
+                    + "u.id, u.username, u.email, u.emailVerified)"
+                    + " from User u where u.email = :email")
+    Optional<UserIdentity> findIdentityByEmail(@Param("email") String email);
+
+    // Fills the shared profile cache, so it reads the primary: a lagging replica would cache a
+    // stale profile for the whole cache TTL
+    @Transactional
+    @Query(
+            "select new org.hackit.auth.dto.UserProfileDto(u.email, u.username, u.emailVerified)"
+                    + " from User u where u.username = :username")
+    Optional<UserProfileDto> findProfileByUsername(@Param("username") String username);
+
+    @Query("select u.id from User u where u.username = :username")
+    Optional<UUID> findIdByUsername(@Param("username") String username);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(
+            "select new org.hackit.auth.model.UserIdentity("
+                    + "u.id, u.username, u.email, u.emailVerified)"
+                    + " from User u")
+    Stream<UserIdentity> streamAllIdentities();
+
+    @Transactional(readOnly = true)
     boolean existsByUsername(String username);
 
+    @Transactional(readOnly = true)
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query(
+            "update User u set u.password = :password, u.updatedAt = :updatedAt"
+                    + " where u.username = :username")
+    int updatePassword(
+            @Param("username") String username,
+            @Param("password") String password,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query(
+            "update User u set u.emailVerified = true, u.updatedAt = :updatedAt"
+                    + " where u.id = :id and u.emailVerified = false")
+    int markEmailVerified(@Param("id") UUID id, @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,135 @@
+package org.hackit.auth.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenPartitionMaintainer {
+
+    static final String PARTITION_PREFIX = "refresh_tokens_p";
+
+    // Arbitrary application-wide key of the transaction-level advisory lock that lets only one
+    // node maintain partitions at a time
+    static final long MAINTENANCE_LOCK_KEY = 0x726566726573684cL;
+
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_xact_lock(?)";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX =
+            DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // A new range partition cannot be created while the default partition holds rows in its
+    // range, so those rows are moved into the new table before it is attached, atomically
+    private static final String CREATE_PARTITION =
+            """
+            DO $$
+            BEGIN
+                IF to_regclass('%1$s') IS NULL THEN
+                    CREATE TABLE %1$s (LIKE refresh_tokens INCLUDING DEFAULTS);
+                    WITH moved AS (
+                        DELETE FROM refresh_tokens_default
+                        WHERE expires_at >= '%2$s' AND expires_at < '%3$s'
+                        RETURNING *)
+                    INSERT INTO %1$s SELECT * FROM moved;
+                    ALTER TABLE refresh_tokens ATTACH PARTITION %1$s
+                        FOR VALUES FROM ('%2$s') TO ('%3$s');
+                END IF;
+            END
+            $$
+            """;
+
+    private static final String PURGE_DEFAULT_PARTITION =
+            "DELETE FROM refresh_tokens_default WHERE expires_at < ?";
+
+    private static final String LIST_PARTITIONS =
+            """
+            SELECT child.relname
+            FROM pg_inherits
+                     JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                     JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.relname = 'refresh_tokens'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration ahead;
+
+    private final Clock clock;
+
+    // One transaction per run: the lock is released on commit, and the DDL of a failed run is
+    // rolled back. A node that does not get the lock skips the run, another node is doing it.
+    @Transactional
+    @Scheduled(fixedDelayString = "${refresh-token.partitioning.interval:PT1H}")
+    public void maintain() {
+        if (!Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(TRY_LOCK, Boolean.class, MAINTENANCE_LOCK_KEY))) {
+            log.debug("Refresh token partitions are being maintained by another node");
+            return;
+        }
+
+        final var today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        final var partitions =
+                Set.copyOf(jdbcTemplate.queryForList(LIST_PARTITIONS, String.class));
+        createPartitions(today, partitions);
+        dropExpiredPartitions(today, partitions);
+    }
+
+    private void createPartitions(final LocalDate today, final Set<String> partitions) {
+        final var lastDay = today.plusDays(Math.max(1, ahead.toDays()));
+        for (var day = today; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            final var partition = partitionName(day);
+            if (!partitions.contains(partition)) {
+                jdbcTemplate.execute(CREATE_PARTITION.formatted(partition, day, day.plusDays(1)));
+            }
+        }
+    }
+
+    private void dropExpiredPartitions(final LocalDate today, final Set<String> partitions) {
+        // expires_at is stored without a time zone, so keep one extra day before dropping
+        final var cutoff = today.minusDays(1);
+        for (final var partition : partitions.stream().sorted().toList()) {
+            partitionDay(partition)
+                    .filter(day -> !day.plusDays(1).isAfter(cutoff))
+                    .ifPresent(
+                            day -> {
+                                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                                log.info("Dropped expired refresh token partition {}", partition);
+                            });
+        }
+
+        final var purged = jdbcTemplate.update(PURGE_DEFAULT_PARTITION, cutoff);
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens from the default partition", purged);
+        }
+    }
+
+    static String partitionName(final LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    static Optional<LocalDate> partitionDay(final String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(
+                    LocalDate.parse(
+                            partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
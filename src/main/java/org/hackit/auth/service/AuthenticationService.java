@@ -4,18 +4,20 @@ import static java.time.Duration.between;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.UUID;
 
-import org.hackit.auth.entity.RefreshToken;
+import org.hackit.auth.dto.UserProfileDto;
 import org.hackit.auth.entity.User;
 import org.hackit.auth.model.AuthTokens;
-import org.hackit.auth.repository.RefreshTokenRepository;
-import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.model.AuthenticatedUser;
+import org.hackit.auth.model.UserIdentity;
+import org.hackit.auth.repository.AccessTokenRevocations;
+import org.hackit.auth.repository.RefreshTokenStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -30,75 +32,88 @@ public class AuthenticationService {
     @Value("${jwt.access-token-ttl}")
     private Duration accessTokenTtl;
 
+    // Profile claims are stale for at most the access-token TTL
+    @Value("${jwt.profile-claims:false}")
+    private boolean profileClaims;
+
     private final AuthenticationManager authenticationManager;
 
     private final JwtService jwtService;
 
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final AccessTokenRevocations accessTokenRevocations;
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserService userService;
 
     public AuthTokens authenticate(final String username, final String password) {
         final var authToken =
                 UsernamePasswordAuthenticationToken.unauthenticated(username, password);
         final var authentication = authenticationManager.authenticate(authToken);
 
-        final var user =
-                userRepository
-                        .findByUsername(username)
-                        .orElseThrow(
-                                () ->
-                                        new UsernameNotFoundException(
-                                                "User with username [%s] not found"
-                                                        .formatted(username)));
+        if (!(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            throw new InternalAuthenticationServiceException(
+                    "Unexpected principal type for user [%s]".formatted(username));
+        }
 
-        return authenticate(user);
+        return authenticate(principal.getIdentity());
     }
 
     public AuthTokens authenticate(final User user) {
-        final var accessToken = jwtService.generateToken(user.getUsername());
+        return authenticate(UserIdentity.from(user));
+    }
+
+    public AuthTokens authenticate(final UserIdentity identity) {
+        final var accessToken =
+                profileClaims
+                        ? jwtService.generateToken(
+                                new UserProfileDto(
+                                        identity.email(),
+                                        identity.username(),
+                                        identity.emailVerified()))
+                        : jwtService.generateToken(identity.username());
 
-        final var refreshTokenEntity = new RefreshToken();
-        refreshTokenEntity.setUser(user);
-        refreshTokenEntity.setExpiresAt(Instant.now().plus(refreshTokenTtl));
-        refreshTokenRepository.save(refreshTokenEntity);
+        final var refreshToken =
+                refreshTokenStore.issue(
+                        identity.id(), identity.username(), Instant.now().plus(refreshTokenTtl));
 
         return new AuthTokens(
                 accessToken,
-                refreshTokenEntity.getId().toString(),
-                between(Instant.now(), refreshTokenEntity.getExpiresAt()));
+                refreshToken.token(),
+                between(Instant.now(), refreshToken.expiresAt()));
     }
 
     public AuthTokens refreshToken(final String refreshToken) {
-        UUID tokenId = validateRefreshTokenFormat(refreshToken);
-
-        final var refreshTokenEntity =
-                refreshTokenRepository
-                        .findByIdAndExpiresAtAfter(tokenId, Instant.now())
+        final var refreshTokenDetails =
+                refreshTokenStore
+                        .findActive(refreshToken)
                         .orElseThrow(
                                 () ->
                                         new BadCredentialsException(
                                                 "Refresh token expired or not found"));
 
+        final var username = refreshTokenDetails.username();
         final var newAccessToken =
-                jwtService.generateToken(refreshTokenEntity.getUser().getUsername());
+                profileClaims
+                        ? jwtService.generateToken(userService.getUserProfile(username))
+                        : jwtService.generateToken(username);
 
         return new AuthTokens(
                 newAccessToken,
                 refreshToken,
-                between(Instant.now(), refreshTokenEntity.getExpiresAt()));
+                between(Instant.now(), refreshTokenDetails.expiresAt()));
     }
 
     public void revokeRefreshToken(String refreshToken) {
-        refreshTokenRepository.deleteById(validateRefreshTokenFormat(refreshToken));
+        refreshTokenStore.revoke(refreshToken);
     }
 
-    private UUID validateRefreshTokenFormat(final String refreshToken) {
-        try {
-            return UUID.fromString(refreshToken);
-        } catch (IllegalArgumentException e) {
-            throw new BadCredentialsException("Invalid refresh token format");
+    public void revokeAccessToken(final Jwt accessToken) {
+        if (accessToken == null || accessToken.getId() == null) {
+            return;
         }
+
+        accessTokenRevocations.revoke(accessToken.getId(), accessToken.getExpiresAt());
     }
 
     public Duration getAccessTokenTtl() {
@@ -5,17 +5,18 @@ import static org.hackit.auth.exception.ErrorType.EMAIL_VERIFICATION_FAILED;
 import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
+import java.time.Instant;
 import java.util.UUID;
 
-import org.hackit.auth.entity.User;
+import org.hackit.auth.dto.UserProfileDto;
 import org.hackit.auth.exception.RestErrorResponseException;
+import org.hackit.auth.model.UserIdentity;
 import org.hackit.auth.repository.UserRepository;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,6 +31,8 @@ public class EmailVerificationService {
 
     private final JavaMailSender mailSender;
 
+    private final UserProfileCache userProfileCache;
+
     @Async
     public void sendEmailVerificationOtp(final UUID userId, final String email) {
         final var token = otpService.generateAndStoreOtp(userId);
@@ -46,21 +49,22 @@ public class EmailVerificationService {
 
     public void resendEmailVerificationOtp(final String email) {
         userRepository
-                .findByEmail(email)
-                .filter(user -> !user.isEmailVerified())
+                .findIdentityByEmail(email)
+                .filter(user -> !user.emailVerified())
                 .ifPresentOrElse(
-                        user -> sendEmailVerificationOtp(user.getId(), user.getEmail()),
+                        user -> sendEmailVerificationOtp(user.id(), user.email()),
                         () ->
                                 log.warn(
                                         "Attempt to resend verification token for non existing or already validated email: [{}]",
                                         email));
     }
 
-    @Transactional
-    public User verifyEmailOtp(final String email, final String otp) {
+    // Not transactional: the OTP is checked and consumed atomically in Redis without a pooled
+    // connection, and markEmailVerified is a single conditional UPDATE
+    public UserIdentity verifyEmailOtp(final String email, final String otp) {
         final var user =
                 userRepository
-                        .findByEmail(email)
+                        .findIdentityByEmail(email)
                         .orElseThrow(
                                 () ->
                                         new RestErrorResponseException(
@@ -70,23 +74,30 @@ public class EmailVerificationService {
                                                         .withErrorType(EMAIL_VERIFICATION_FAILED)
                                                         .build()));
 
-        if (!otpService.isOtpValid(user.getId(), otp)) {
-            throw new RestErrorResponseException(
-                    forStatusAndDetail(BAD_REQUEST, "Invalid email or token")
-                            .withErrorType(EMAIL_VERIFICATION_FAILED)
-                            .build());
+        switch (otpService.verifyAndConsume(user.id(), otp)) {
+            case VALID -> {}
+            case TOO_MANY_ATTEMPTS ->
+                    throw new RestErrorResponseException(
+                            forStatusAndDetail(
+                                            BAD_REQUEST,
+                                            "Too many invalid attempts, request a new token")
+                                    .withErrorType(EMAIL_VERIFICATION_FAILED)
+                                    .build());
+            default ->
+                    throw new RestErrorResponseException(
+                            forStatusAndDetail(BAD_REQUEST, "Invalid email or token")
+                                    .withErrorType(EMAIL_VERIFICATION_FAILED)
+                                    .build());
         }
-        otpService.deleteOtp(user.getId());
 
-        if (user.isEmailVerified()) {
+        if (userRepository.markEmailVerified(user.id(), Instant.now()) == 0) {
             throw new RestErrorResponseException(
                     forStatusAndDetail(BAD_REQUEST, "Email is already verified")
                             .withErrorType(EMAIL_ALREADY_VERIFIED)
                             .build());
         }
+        userProfileCache.update(new UserProfileDto(user.email(), user.username(), true));
 
-        user.setEmailVerified(true);
-
-        return user;
+        return new UserIdentity(user.id(), user.username(), user.email(), true);
     }
 }
@@ -4,10 +4,15 @@ import static org.hackit.auth.exception.ErrorType.EMAIL_VERIFICATION_REQUIRED;
 import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
+import java.time.Instant;
+
 import org.hackit.auth.exception.RestErrorResponseException;
+import org.hackit.auth.model.AuthenticatedUser;
+import org.hackit.auth.model.UserIdentity;
 import org.hackit.auth.repository.UserRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,7 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -34,14 +39,23 @@ public class JpaUserDetailsService implements UserDetailsService {
                                                 .withErrorType(EMAIL_VERIFICATION_REQUIRED)
                                                 .build());
                             }
-                            return User.builder()
-                                    .username(username)
-                                    .password(user.getPassword())
-                                    .build();
+                            return new AuthenticatedUser(
+                                    UserIdentity.from(user), user.getPassword());
                         })
                 .orElseThrow(
                         () ->
                                 new UsernameNotFoundException(
                                         "User with username [%s] not found".formatted(username)));
     }
+
+    @Override
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword, Instant.now());
+
+        if (user instanceof AuthenticatedUser authenticatedUser) {
+            return new AuthenticatedUser(authenticatedUser.getIdentity(), newPassword);
+        }
+
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
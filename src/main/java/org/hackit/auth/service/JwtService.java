@@ -3,9 +3,12 @@ package org.hackit.auth.service;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.hackit.auth.dto.UserProfileDto;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
@@ -15,16 +18,34 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JwtService {
 
+    public static final String EMAIL_CLAIM = "email";
+
+    public static final String EMAIL_VERIFIED_CLAIM = "email_verified";
+
     private final String issuer;
 
-    @Value("${jwt.audience:hackit-api}")
-    private String audience;
+    private final String audience;
 
     private final Duration ttl;
 
+    private final JwsAlgorithm algorithm;
+
     private final JwtEncoder jwtEncoder;
 
     public String generateToken(final String username) {
+        return generateToken(username, Map.of());
+    }
+
+    // Embeds the profile so it can be served from the token without a database read
+    public String generateToken(final UserProfileDto profile) {
+        return generateToken(
+                profile.username(),
+                Map.of(
+                        EMAIL_CLAIM, profile.email(),
+                        EMAIL_VERIFIED_CLAIM, profile.emailVerified()));
+    }
+
+    protected String generateToken(final String username, final Map<String, Object> claims) {
         final var issuedAt = Instant.now();
         final var jwtId = UUID.randomUUID().toString();
 
@@ -37,9 +58,12 @@ public class JwtService {
                         .issuedAt(issuedAt)
                         .notBefore(issuedAt)
                         .expiresAt(issuedAt.plus(ttl))
+                        .claims(target -> target.putAll(claims))
                         .build();
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claimsSet)).getTokenValue();
+        return jwtEncoder
+                .encode(JwtEncoderParameters.from(JwsHeader.with(algorithm).build(), claimsSet))
+                .getTokenValue();
     }
 
     public Duration getTokenTtl() {
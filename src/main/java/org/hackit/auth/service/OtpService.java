@@ -5,8 +5,9 @@ import static org.hackit.auth.util.OtpUtil.generateOtp;
 import java.util.UUID;
 
 import org.hackit.auth.config.OtpConfig;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hackit.auth.config.security.OtpHasher;
+import org.hackit.auth.model.OtpVerification;
+import org.hackit.auth.repository.OtpStore;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,31 +16,35 @@ public class OtpService {
 
     private final OtpConfig.OtpConfigProperties configProperties;
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final OtpStore otpStore;
 
-    private final PasswordEncoder passwordEncoder;
+    private final OtpHasher otpHasher;
 
     public String generateAndStoreOtp(final UUID id) {
         final var otp = generateOtp(configProperties.length());
-        final var cacheKey = getCacheKey(id);
 
-        redisTemplate
-                .opsForValue()
-                .set(cacheKey, passwordEncoder.encode(otp), configProperties.ttl());
+        otpStore.save(getCacheKey(id), otpHasher.hash(id, otp), configProperties.ttl());
 
         return otp;
     }
 
-    public boolean isOtpValid(final UUID id, final String otp) {
+    public OtpVerification verifyAndConsume(final UUID id, final String otp) {
         final var cacheKey = getCacheKey(id);
 
-        return passwordEncoder.matches(otp, redisTemplate.opsForValue().get(cacheKey));
+        return otpStore.verifyAndConsume(
+                cacheKey, candidateHash(id, otp, cacheKey), configProperties.maxAttempts());
     }
 
-    public void deleteOtp(final UUID id) {
-        final var cacheKey = getCacheKey(id);
+    // Salted hashes (bcrypt) cannot be recomputed, so they are checked here and the stored value
+    // is handed to the store as the candidate; the compare-and-delete stays atomic either way
+    private String candidateHash(final UUID id, final String otp, final String cacheKey) {
+        if (otpHasher.isDeterministic()) {
+            return otpHasher.hash(id, otp);
+        }
 
-        redisTemplate.delete(cacheKey);
+        return otpStore.find(cacheKey)
+                .filter(stored -> otpHasher.matches(id, otp, stored))
+                .orElse("");
     }
 
     private String getCacheKey(UUID id) {
@@ -0,0 +1,121 @@
+package org.hackit.auth.service;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hackit.auth.config.security.JwtSigningKeys;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+
+public class PrecomputedJwtService extends JwtService {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final JWSHeader header;
+
+    private final String encodedHeader;
+
+    private final JWSSigner signer;
+
+    private final String claimsPrefix;
+
+    private final long ttlSeconds;
+
+    public PrecomputedJwtService(
+            final String issuer,
+            final String audience,
+            final Duration ttl,
+            final JwtSigningKeys signingKeys,
+            final JwtEncoder jwtEncoder) {
+        super(issuer, audience, ttl, signingKeys.algorithm().getJwsAlgorithm(), jwtEncoder);
+
+        final var algorithm = signingKeys.algorithm().toJoseAlgorithm();
+        this.header = new JWSHeader.Builder(algorithm).keyID(signingKeys.jwk().getKeyID()).build();
+        this.encodedHeader = header.toBase64URL().toString();
+        this.ttlSeconds = ttl.toSeconds();
+
+        try {
+            this.signer =
+                    new DefaultJWSSignerFactory().createJWSSigner(signingKeys.jwk(), algorithm);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Unable to create a JWS signer for " + algorithm, e);
+        }
+
+        final var prefix = new StringBuilder("{\"iss\":");
+        appendJsonString(prefix, issuer);
+        prefix.append(",\"aud\":[");
+        appendJsonString(prefix, audience);
+        prefix.append(']');
+        this.claimsPrefix = prefix.toString();
+    }
+
+    @Override
+    protected String generateToken(
+            final String username, final Map<String, Object> extraClaims) {
+        final var issuedAt = System.currentTimeMillis() / 1000;
+
+        final var claims = new StringBuilder(claimsPrefix.length() + 160).append(claimsPrefix);
+        claims.append(",\"sub\":");
+        appendJsonString(claims, username);
+        claims.append(",\"jti\":\"")
+                .append(UUID.randomUUID())
+                .append("\",\"iat\":")
+                .append(issuedAt)
+                .append(",\"nbf\":")
+                .append(issuedAt)
+                .append(",\"exp\":")
+                .append(issuedAt + ttlSeconds);
+        for (final var claim : extraClaims.entrySet()) {
+            claims.append(',');
+            appendJsonString(claims, claim.getKey());
+            claims.append(':');
+            if (claim.getValue() instanceof Boolean || claim.getValue() instanceof Number) {
+                claims.append(claim.getValue());
+            } else {
+                appendJsonString(claims, String.valueOf(claim.getValue()));
+            }
+        }
+        claims.append('}');
+
+        final var signingInput =
+                encodedHeader + '.' + BASE64_URL.encodeToString(claims.toString().getBytes(UTF_8));
+
+        try {
+            return signingInput + '.' + signer.sign(header, signingInput.getBytes(US_ASCII));
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Failed to sign the JWT: " + e.getMessage(), e);
+        }
+    }
+
+    private static void appendJsonString(final StringBuilder target, final String value) {
+        target.append('"');
+        for (var i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> target.append("\\\"");
+                case '\\' -> target.append("\\\\");
+                case '\n' -> target.append("\\n");
+                case '\r' -> target.append("\\r");
+                case '\t' -> target.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        target.append("\\u%04x".formatted((int) c));
+                    } else {
+                        target.append(c);
+                    }
+                }
+            }
+        }
+        target.append('"');
+    }
+}
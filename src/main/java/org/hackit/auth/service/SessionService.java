@@ -0,0 +1,58 @@
+package org.hackit.auth.service;
+
+import static org.hackit.auth.exception.ErrorType.ACCOUNT_UNAVAILABLE;
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
+import static org.springframework.http.HttpStatus.GONE;
+
+import java.util.UUID;
+
+import org.hackit.auth.exception.RestErrorResponseException;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.hackit.auth.repository.RefreshTokenStore;
+import org.hackit.auth.repository.UserRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Sessions are the user's refresh tokens. Listing and revocation are set-based queries, so the
+// user's token collection is never loaded.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+    private final UserRepository userRepository;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    public Page<RefreshTokenSession> getSessions(final String username, final Pageable pageable) {
+        return refreshTokenStore.findSessions(findUserId(username), pageable);
+    }
+
+    public long revokeAllSessions(final String username) {
+        return revokeAllSessions(findUserId(username));
+    }
+
+    public long revokeAllSessions(final UUID userId) {
+        final var revoked = refreshTokenStore.revokeAll(userId);
+        log.info("Revoked {} sessions of user {}", revoked, userId);
+
+        return revoked;
+    }
+
+    private UUID findUserId(final String username) {
+        return userRepository
+                .findIdByUsername(username)
+                .orElseThrow(
+                        () ->
+                                new RestErrorResponseException(
+                                        forStatusAndDetail(
+                                                        GONE,
+                                                        "The user account has been deleted or inactivated")
+                                                .withErrorType(ACCOUNT_UNAVAILABLE)
+                                                .build()));
+    }
+}
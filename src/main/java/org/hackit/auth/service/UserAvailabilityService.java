@@ -0,0 +1,132 @@
+package org.hackit.auth.service;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.util.BloomFilter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Answers "definitely free" from in-memory Bloom filters over existing usernames and emails;
+// only possible hits reach the database. The filters are advisory (registration still relies
+// on the unique constraints) and are rebuilt periodically to drop deleted users. With Redis
+// (redisTemplate != null) registrations are broadcast over pub/sub so other nodes see them
+// before the next rebuild.
+@Slf4j
+@RequiredArgsConstructor
+public class UserAvailabilityService implements MessageListener {
+
+    public static final String CHANNEL = "user-availability:registered";
+
+    private final UserRepository userRepository;
+
+    private final long expectedUsers;
+
+    private final double falsePositiveProbability;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Filters filters;
+
+    // Filters being rebuilt also receive registrations so none are lost in the swap. Both fields
+    // are written under the monitor, so a registration lands in the filters that are swapped in.
+    private Filters building;
+
+    public boolean isUsernameAvailable(final String username) {
+        return isAvailable(username, Filters::usernames, userRepository::existsByUsername);
+    }
+
+    public boolean isEmailAvailable(final String email) {
+        return isAvailable(email, Filters::emails, userRepository::existsByEmail);
+    }
+
+    public void registered(final String username, final String email) {
+        apply(new Registration(username, email));
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(
+                    CHANNEL, objectMapper.writeValueAsString(new Registration(username, email)));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to broadcast registration of {}", username, e);
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            apply(objectMapper.readValue(message.getBody(), Registration.class));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed registration message", e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${user-availability.rebuild-interval:PT10M}")
+    public void rebuild() {
+        final var rebuilt = new Filters(newFilter(), newFilter());
+        synchronized (this) {
+            building = rebuilt;
+        }
+        try (final var identities = userRepository.streamAllIdentities()) {
+            identities.forEach(
+                    identity -> {
+                        rebuilt.usernames().put(identity.username());
+                        rebuilt.emails().put(identity.email());
+                    });
+            synchronized (this) {
+                filters = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                building = null;
+            }
+        }
+        log.debug("Rebuilt username and email availability filters");
+    }
+
+    private boolean isAvailable(
+            final String value,
+            final Function<Filters, BloomFilter> filter,
+            final Predicate<String> exists) {
+        final var current = filters;
+        if (current != null && !filter.apply(current).mightContain(value)) {
+            return true;
+        }
+
+        return !exists.test(value);
+    }
+
+    private synchronized void apply(final Registration registration) {
+        for (final var target : new Filters[] {filters, building}) {
+            if (target != null) {
+                target.usernames().put(registration.username());
+                target.emails().put(registration.email());
+            }
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedUsers, falsePositiveProbability);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {}
+
+    private record Registration(String username, String email) {}
+}
@@ -0,0 +1,166 @@
+package org.hackit.auth.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.hackit.auth.dto.UserProfileDto;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+// L1 is a bounded per-node Caffeine cache, L2 is Redis shared by all nodes. Updates overwrite
+// L2 and are broadcast over pub/sub so every other node evicts its L1 copy; messages carry the
+// publishing node's id so the updating node keeps its fresh entry. Loads only fill an empty
+// L2 key (SET NX), so a reader that loaded the old row before an update cannot overwrite the
+// new value. Without Redis (redisTemplate == null) only L1 is used and other nodes' entries go
+// stale for at most the L1 TTL.
+@Slf4j
+public class UserProfileCache implements MessageListener {
+
+    public static final String CHANNEL = "user-profile:invalidated";
+
+    private static final String CACHE_NAME = "user-profile";
+
+    private static final String PROFILE_KEY = "user-profile:%s";
+
+    private static final String MESSAGE = "%s:%s";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<String, UserProfileDto> local;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration redisTtl;
+
+    private final Counter redisHits;
+
+    private final Counter redisMisses;
+
+    public UserProfileCache(
+            final long maximumSize,
+            final Duration ttl,
+            final RedisTemplate<String, String> redisTemplate,
+            final ObjectMapper objectMapper,
+            final Duration redisTtl,
+            final MeterRegistry meterRegistry) {
+        this.local =
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+        this.redisHits = redisCounter(meterRegistry, "hit");
+        this.redisMisses = redisCounter(meterRegistry, "miss");
+    }
+
+    public UserProfileDto get(
+            final String username, final Function<String, UserProfileDto> loader) {
+        return local.get(
+                username, key -> getShared(key).orElseGet(() -> loadShared(key, loader)));
+    }
+
+    // Write-through for profile changes: deleting the key instead would let a concurrent reader
+    // of the old row repopulate it for the whole Redis TTL
+    public void update(final UserProfileDto profile) {
+        final var username = profile.username();
+        local.put(username, profile);
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            redisTemplate
+                    .opsForValue()
+                    .set(
+                            PROFILE_KEY.formatted(username),
+                            objectMapper.writeValueAsString(profile),
+                            redisTtl);
+            redisTemplate.convertAndSend(CHANNEL, MESSAGE.formatted(nodeId, username));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to update cached profile of {}", username, e);
+        }
+    }
+
+    // The node id is a UUID, so the first colon separates it from the username
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final var body = new String(message.getBody(), UTF_8);
+        final var separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        local.invalidate(body.substring(separator + 1));
+    }
+
+    private Optional<UserProfileDto> getShared(final String username) {
+        if (redisTemplate == null) {
+            return Optional.empty();
+        }
+
+        try {
+            final var json = redisTemplate.opsForValue().get(PROFILE_KEY.formatted(username));
+            if (json == null) {
+                redisMisses.increment();
+                return Optional.empty();
+            }
+            redisHits.increment();
+            return Optional.of(objectMapper.readValue(json, UserProfileDto.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read cached profile of {}, loading from database", username, e);
+            return Optional.empty();
+        }
+    }
+
+    // The loader throws for unknown users, so misses are never cached
+    private UserProfileDto loadShared(
+            final String username, final Function<String, UserProfileDto> loader) {
+        final var profile = loader.apply(username);
+        if (redisTemplate == null) {
+            return profile;
+        }
+
+        try {
+            redisTemplate
+                    .opsForValue()
+                    .setIfAbsent(
+                            PROFILE_KEY.formatted(username),
+                            objectMapper.writeValueAsString(profile),
+                            redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to cache profile of {}", username, e);
+        }
+
+        return profile;
+    }
+
+    private static Counter redisCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("cache.user-profile.redis")
+                .description("Shared user profile cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -4,16 +4,18 @@ import static org.hackit.auth.exception.ErrorType.RESOURCE_ALREADY_EXISTS;
 import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
 import static org.springframework.http.HttpStatus.CONFLICT;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.hackit.auth.entity.User;
 import org.hackit.auth.exception.RestErrorResponseException;
 import org.hackit.auth.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -22,29 +24,51 @@ public class UserRegistrationService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserAvailabilityService userAvailabilityService;
 
-    @Transactional
+    // Not transactional: hashing must not hold a pooled connection. Uniqueness is enforced by
+    // the insert itself, so there are no pre-checks to race with concurrent sign-ups.
     public User registerUser(final User user) {
-        final var errors = new HashMap<String, List<String>>();
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        if (userRepository.existsByEmail(user.getEmail())) {
-            errors.put("email", List.of("Email is already taken"));
+        final User registeredUser;
+        try {
+            registeredUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toConflict(e);
         }
 
-        if (userRepository.existsByUsername(user.getUsername())) {
-            errors.put("username", List.of("Username is already taken"));
-        }
+        userAvailabilityService.registered(
+                registeredUser.getUsername(), registeredUser.getEmail());
+
+        return registeredUser;
+    }
 
-        if (!errors.isEmpty()) {
-            throw new RestErrorResponseException(
-                    forStatusAndDetail(CONFLICT, "Request validation failed")
-                            .withProperty("errors", errors)
-                            .withErrorType(RESOURCE_ALREADY_EXISTS)
-                            .build());
+    private static RuntimeException toConflict(final DataIntegrityViolationException e) {
+        var cause = e.getCause();
+        while (cause != null && !(cause instanceof ConstraintViolationException)) {
+            cause = cause.getCause();
+        }
+        if (!(cause instanceof ConstraintViolationException violation)
+                || violation.getConstraintName() == null) {
+            return e;
         }
 
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        // Postgres reports the bare constraint name, H2 wraps it in index details
+        final var constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+        final Map<String, List<String>> errors;
+        if (constraintName.contains(User.EMAIL_CONSTRAINT)) {
+            errors = Map.of("email", List.of("Email is already taken"));
+        } else if (constraintName.contains(User.USERNAME_CONSTRAINT)) {
+            errors = Map.of("username", List.of("Username is already taken"));
+        } else {
+            return e;
+        }
 
-        return userRepository.save(user);
+        return new RestErrorResponseException(
+                forStatusAndDetail(CONFLICT, "Request validation failed")
+                        .withProperty("errors", errors)
+                        .withErrorType(RESOURCE_ALREADY_EXISTS)
+                        .build());
     }
 }
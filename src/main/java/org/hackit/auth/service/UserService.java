@@ -4,7 +4,7 @@ import static org.hackit.auth.exception.ErrorType.ACCOUNT_UNAVAILABLE;
 import static org.hackit.auth.exception.ProblemDetailBuilder.forStatusAndDetail;
 import static org.springframework.http.HttpStatus.GONE;
 
-import org.hackit.auth.entity.User;
+import org.hackit.auth.dto.UserProfileDto;
 import org.hackit.auth.exception.RestErrorResponseException;
 import org.hackit.auth.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -17,9 +17,15 @@ public class UserService {
 
     private final UserRepository userRepository;
 
-    public User getUserByUsername(final String username) {
+    private final UserProfileCache userProfileCache;
+
+    public UserProfileDto getUserProfile(final String username) {
+        return userProfileCache.get(username, this::loadUserProfile);
+    }
+
+    private UserProfileDto loadUserProfile(final String username) {
         return userRepository
-                .findByUsername(username)
+                .findProfileByUsername(username)
                 .orElseThrow(
                         () ->
                                 new RestErrorResponseException(
@@ -0,0 +1,88 @@
+package org.hackit.auth.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free Bloom filter over strings: k bit positions are derived from two 64-bit hashes
+// (Kirsch-Mitzenmacher double hashing) and set with CAS on a shared long array
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+
+    private final long numBits;
+
+    private final int numHashes;
+
+    public BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be in (0, 1)");
+        }
+
+        final var optimalBits =
+                (long)
+                        Math.ceil(
+                                -expectedInsertions
+                                        * Math.log(falsePositiveProbability)
+                                        / (Math.log(2) * Math.log(2)));
+        final var words = Math.toIntExact(Math.max(1, (optimalBits + 63) / 64));
+
+        this.words = new AtomicLongArray(words);
+        this.numBits = (long) words * 64;
+        this.numHashes =
+                Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(final String value) {
+        final var hash = fnv1a(value);
+        final var h1 = mix(hash);
+        final var h2 = mix(hash + GOLDEN_RATIO);
+
+        for (int i = 0; i < numHashes; i++) {
+            final var bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            final var mask = 1L << bit;
+            words.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    public boolean mightContain(final String value) {
+        final var hash = fnv1a(value);
+        final var h1 = mix(hash);
+        final var h2 = mix(hash + GOLDEN_RATIO);
+
+        for (int i = 0; i < numHashes; i++) {
+            final var bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long fnv1a(final String value) {
+        var hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64 finalizer
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,40 @@
+package org.hackit.auth.util;
+
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+// Mac instances are not thread-safe and costly to initialize, so each thread keeps its own
+public class HmacSha256 {
+
+    // RFC 2104 recommends a key at least as long as the hash output
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ThreadLocal<Mac> mac;
+
+    public HmacSha256(final byte[] secret) {
+        final var key = new SecretKeySpec(secret, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> newMac(key));
+    }
+
+    public byte[] sign(final byte[]... parts) {
+        final var mac = this.mac.get();
+        for (final var part : parts) {
+            mac.update(part);
+        }
+        return mac.doFinal();
+    }
+
+    private static Mac newMac(final SecretKeySpec key) {
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.hackit.auth.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Token bucket expressed as a generic cell rate algorithm: the whole state is the theoretical
+// arrival time of the next request, so a single CAS on one long consumes a token.
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(final long capacity, final Duration refillPeriod) {
+        this(capacity, refillPeriod, System::nanoTime);
+    }
+
+    TokenBucket(final long capacity, final Duration refillPeriod, final LongSupplier nanoTime) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.nanoTime = nanoTime;
+        this.theoreticalArrival = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    // Returns Duration.ZERO when a token was taken, otherwise the time until one is available
+    public Duration tryConsume() {
+        while (true) {
+            final var now = nanoTime.getAsLong();
+            final var current = theoreticalArrival.get();
+            final var next = Math.max(current, now) + emissionIntervalNanos;
+            final var wait = next - now - burstToleranceNanos;
+            if (wait > 0) {
+                return Duration.ofNanos(wait);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.hackit.auth.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class UuidUtil {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    // RFC 9562 UUIDv7: a millisecond timestamp prefix keeps inserts at the right edge of the
+    // index, while the remaining 74 bits come from SecureRandom so ids stay unguessable
+    public static UUID generateUuidV7() {
+        return uuidV7(
+                System.currentTimeMillis(), SECURE_RANDOM.nextLong(), SECURE_RANDOM.nextLong());
+    }
+
+    static UUID uuidV7(final long epochMillis, final long randA, final long randB) {
+        final var mostSigBits = (epochMillis << 16) | 0x7000L | (randA & 0x0FFFL);
+        final var leastSigBits = (randB & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
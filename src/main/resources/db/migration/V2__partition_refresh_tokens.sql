@@ -0,0 +1,45 @@
+-- Range-partition refresh_tokens by expires_at so expired tokens are removed by dropping
+-- whole daily partitions instead of DELETE + VACUUM. New partitions are pre-created and
+-- expired ones dropped by RefreshTokenPartitionMaintainer.
+
+ALTER TABLE refresh_tokens RENAME TO refresh_tokens_legacy;
+ALTER TABLE refresh_tokens_legacy RENAME CONSTRAINT refresh_tokens_pkey TO refresh_tokens_legacy_pkey;
+ALTER INDEX idx_refresh_token_user_id RENAME TO idx_refresh_token_legacy_user_id;
+
+CREATE TABLE refresh_tokens
+(
+    id         UUID                        NOT NULL,
+    user_id    UUID                        NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE DEFAULT NOW(),
+    expires_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT refresh_tokens_pkey PRIMARY KEY (id, expires_at),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) PARTITION BY RANGE (expires_at);
+CREATE INDEX idx_refresh_token_user_id ON refresh_tokens (user_id);
+
+DO
+$$
+    DECLARE
+        partition_day DATE := CURRENT_DATE - 1;
+        last_day      DATE;
+    BEGIN
+        SELECT GREATEST(MAX(expires_at)::DATE, CURRENT_DATE + 7)
+        INTO last_day
+        FROM refresh_tokens_legacy;
+
+        WHILE partition_day <= last_day
+            LOOP
+                EXECUTE format('CREATE TABLE %I PARTITION OF refresh_tokens FOR VALUES FROM (%L) TO (%L)',
+                               'refresh_tokens_p' || to_char(partition_day, 'YYYYMMDD'),
+                               partition_day, partition_day + 1);
+                partition_day := partition_day + 1;
+            END LOOP;
+    END
+$$;
+
+INSERT INTO refresh_tokens (id, user_id, created_at, expires_at)
+SELECT id, user_id, created_at, expires_at
+FROM refresh_tokens_legacy
+WHERE expires_at > NOW();
+
+DROP TABLE refresh_tokens_legacy;
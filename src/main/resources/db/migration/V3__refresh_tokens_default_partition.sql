@@ -0,0 +1,6 @@
+-- Catches tokens expiring beyond the pre-created daily partitions (a refresh-token TTL longer
+-- than refresh-token.partitioning.ahead, or a maintainer that fell behind) so inserts never
+-- fail. RefreshTokenPartitionMaintainer moves such rows into their daily partition when it is
+-- created and purges expired rows left here.
+
+CREATE TABLE IF NOT EXISTS refresh_tokens_default PARTITION OF refresh_tokens DEFAULT;
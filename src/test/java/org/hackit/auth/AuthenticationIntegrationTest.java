@@ -2,13 +2,21 @@ package org.hackit.auth;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hackit.auth.model.AuthTokens.REFRESH_TOKEN_COOKIE_NAME;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.UUID;
+
+import org.hackit.auth.config.PasswordHashingConfig;
 import org.hackit.auth.dto.AuthenticationRequestDto;
 import org.hackit.auth.entity.User;
 import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.service.UserProfileCache;
 import org.hackit.config.TestRedisConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,12 +25,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.persistence.EntityManagerFactory;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -38,14 +52,22 @@ class AuthenticationIntegrationTest {
 
     @Autowired private ObjectMapper objectMapper;
 
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private UserProfileCache userProfileCache;
+
+    @Autowired private PasswordHashingConfig passwordHashingConfig;
+
     private final String username = "testuser";
     private final String email = "testuser@test.com";
     private final String password = "password123";
+    private final String adminUsername = "testadmin";
 
     @BeforeEach
     void setUp() {
-        // Delete test user if exists
+        // Delete test users if exist
         userRepository.findByUsername(username).ifPresent(user -> userRepository.delete(user));
+        userRepository.findByUsername(adminUsername).ifPresent(user -> userRepository.delete(user));
 
         // Create test user directly
         User user = new User();
@@ -54,12 +76,16 @@ class AuthenticationIntegrationTest {
         user.setPassword(passwordEncoder.encode(password));
         user.setEmailVerified(true);
         userRepository.save(user);
+
+        // The profile cache outlives the user recreated for every test
+        ((Cache<?, ?>) ReflectionTestUtils.getField(userProfileCache, "local")).invalidateAll();
     }
 
     @AfterEach
     void tearDown() {
         // Clean up test data
         userRepository.findByUsername(username).ifPresent(user -> userRepository.delete(user));
+        userRepository.findByUsername(adminUsername).ifPresent(user -> userRepository.delete(user));
     }
 
     @Test
@@ -96,4 +122,184 @@ class AuthenticationIntegrationTest {
         mockMvc.perform(post("/api/auth/refresh").cookie(result.getResponse().getCookies()))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void shouldRehashPasswordStoredWithLowerStrengthOnSignIn() throws Exception {
+        User user = userRepository.findByUsername(username).orElseThrow();
+        user.setPassword("{bcrypt}" + new BCryptPasswordEncoder(4).encode(password));
+        userRepository.save(user);
+
+        signIn(new AuthenticationRequestDto(username, password));
+
+        String rehashed = userRepository.findByUsername(username).orElseThrow().getPassword();
+        String prefix = "{bcrypt}$2a$%02d$".formatted(passwordHashingConfig.getBcrypt().strength());
+        assertThat(rehashed).startsWith(prefix);
+        assertThat(passwordEncoder.matches(password, rehashed)).isTrue();
+    }
+
+    @Test
+    void shouldLoadUserOnlyOnceOnSignIn() throws Exception {
+        AuthenticationRequestDto authRequest = new AuthenticationRequestDto(username, password);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(
+                        post("/api/auth/sign-in")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(status().isOk());
+
+        // One select for the user and one insert for the refresh token
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshAndReadProfileWithoutLoadingEntities() throws Exception {
+        AuthenticationRequestDto authRequest = new AuthenticationRequestDto(username, password);
+        MvcResult result =
+                mockMvc.perform(
+                                post("/api/auth/sign-in")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(authRequest)))
+                        .andExpect(status().isOk())
+                        .andReturn();
+        String accessToken =
+                JsonPath.read(result.getResponse().getContentAsString(), "$.accessToken");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/auth/refresh").cookie(result.getResponse().getCookies()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(username))
+                .andExpect(jsonPath("$.emailVerified").value(true));
+
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // Served from the profile cache
+        statistics.clear();
+        mockMvc.perform(get("/api/user/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(username));
+
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+    }
+
+    @Test
+    void shouldListAndRevokeAllSessionsWithoutLoadingEntities() throws Exception {
+        AuthenticationRequestDto authRequest = new AuthenticationRequestDto(username, password);
+        MvcResult laptop = signIn(authRequest);
+        MvcResult phone = signIn(authRequest);
+        String accessToken =
+                JsonPath.read(phone.getResponse().getContentAsString(), "$.accessToken");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(
+                        get("/api/user/sessions")
+                                .param("size", "1")
+                                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessions.length()").value(1))
+                .andExpect(jsonPath("$.totalSessions").value(2));
+
+        mockMvc.perform(
+                        delete("/api/user/sessions")
+                                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.revokedSessions").value(2))
+                .andExpect(cookie().maxAge(REFRESH_TOKEN_COOKIE_NAME, 0));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+        mockMvc.perform(post("/api/auth/refresh").cookie(laptop.getResponse().getCookies()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/refresh").cookie(phone.getResponse().getCookies()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldLetConfiguredAdminRevokeAllSessionsOfUser() throws Exception {
+        MvcResult session = signIn(new AuthenticationRequestDto(username, password));
+        User admin = new User();
+        admin.setUsername(adminUsername);
+        admin.setEmail("testadmin@test.com");
+        admin.setPassword(passwordEncoder.encode(password));
+        admin.setEmailVerified(true);
+        userRepository.save(admin);
+        String adminAccessToken =
+                JsonPath.read(
+                        signIn(new AuthenticationRequestDto(adminUsername, password))
+                                .getResponse()
+                                .getContentAsString(),
+                        "$.accessToken");
+        UUID userId = userRepository.findIdByUsername(username).orElseThrow();
+
+        mockMvc.perform(
+                        delete("/api/admin/users/{userId}/sessions", userId)
+                                .header("Authorization", "Bearer " + adminAccessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.revokedSessions").value(1));
+
+        mockMvc.perform(post("/api/auth/refresh").cookie(session.getResponse().getCookies()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldRejectAdminEndpointsForRegularUser() throws Exception {
+        String accessToken =
+                JsonPath.read(
+                        signIn(new AuthenticationRequestDto(username, password))
+                                .getResponse()
+                                .getContentAsString(),
+                        "$.accessToken");
+
+        mockMvc.perform(
+                        delete("/api/admin/users/{userId}/sessions", UUID.randomUUID())
+                                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldReportTakenUsernameAndEmailFromSingleInsert() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(
+                        post("/api/auth/sign-up")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        signUpRequest(username, "another@test.com", password)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errors.username[0]").value("Username is already taken"));
+
+        mockMvc.perform(
+                        post("/api/auth/sign-up")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(signUpRequest("anotheruser", email, password)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errors.email[0]").value("Email is already taken"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private MvcResult signIn(final AuthenticationRequestDto authRequest) throws Exception {
+        return mockMvc.perform(
+                        post("/api/auth/sign-in")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private String signUpRequest(
+            final String username, final String email, final String password) {
+        return String.format(
+                "{\"username\": \"%s\", \"email\": \"%s\", \"password\": \"%s\"}",
+                username, email, password);
+    }
 }
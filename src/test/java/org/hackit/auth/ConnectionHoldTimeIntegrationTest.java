@@ -0,0 +1,183 @@
+package org.hackit.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.hackit.auth.entity.User;
+import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.service.UserRegistrationService;
+import org.hackit.config.TestRedisConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestRedisConfiguration.class, ConnectionHoldTimeIntegrationTest.Config.class})
+class ConnectionHoldTimeIntegrationTest {
+
+    private static final Duration HASHING_TIME = Duration.ofMillis(300);
+
+    private static final HoldTimeRecordingDataSource RECORDER = new HoldTimeRecordingDataSource();
+
+    private static final AtomicInteger CONNECTIONS_OPEN_WHILE_HASHING = new AtomicInteger();
+
+    @Autowired private UserRegistrationService userRegistrationService;
+
+    @Autowired private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("holdtime").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldNotHoldConnectionWhileHashingPassword() {
+        // given
+        User user = new User();
+        user.setUsername("holdtime");
+        user.setEmail("holdtime@test.com");
+        user.setPassword("password123");
+        RECORDER.reset();
+
+        // when
+        userRegistrationService.registerUser(user);
+
+        // then
+        assertThat(CONNECTIONS_OPEN_WHILE_HASHING.get()).isZero();
+        assertThat(RECORDER.acquisitions()).isPositive();
+        assertThat(RECORDER.maxHoldTime()).isLessThan(HASHING_TIME.dividedBy(2));
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        // Runs before the lazy-connection proxy is applied, so physical acquisitions are timed
+        @Bean
+        static BeanPostProcessor holdTimeRecordingPostProcessor() {
+            return new RecordingPostProcessor();
+        }
+
+        @Bean
+        @Primary
+        PasswordEncoder slowPasswordEncoder() {
+            final var delegate = new BCryptPasswordEncoder(4);
+            return new PasswordEncoder() {
+                @Override
+                public String encode(final CharSequence rawPassword) {
+                    CONNECTIONS_OPEN_WHILE_HASHING.set(RECORDER.openConnections());
+                    try {
+                        Thread.sleep(HASHING_TIME.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return delegate.encode(rawPassword);
+                }
+
+                @Override
+                public boolean matches(final CharSequence rawPassword, final String encoded) {
+                    return delegate.matches(rawPassword, encoded);
+                }
+            };
+        }
+    }
+
+    static class RecordingPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        @Override
+        public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                RECORDER.setTargetDataSource(dataSource);
+                return RECORDER;
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return HIGHEST_PRECEDENCE;
+        }
+    }
+
+    static class HoldTimeRecordingDataSource extends DelegatingDataSource {
+
+        private final AtomicInteger open = new AtomicInteger();
+
+        private final AtomicInteger acquisitions = new AtomicInteger();
+
+        private final AtomicLong maxHoldNanos = new AtomicLong();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return record(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password)
+                throws SQLException {
+            return record(super.getConnection(username, password));
+        }
+
+        int openConnections() {
+            return open.get();
+        }
+
+        int acquisitions() {
+            return acquisitions.get();
+        }
+
+        Duration maxHoldTime() {
+            return Duration.ofNanos(maxHoldNanos.get());
+        }
+
+        void reset() {
+            acquisitions.set(0);
+            maxHoldNanos.set(0);
+        }
+
+        private Connection record(final Connection connection) {
+            final var acquiredAt = System.nanoTime();
+            final var closed = new AtomicInteger();
+            open.incrementAndGet();
+            acquisitions.incrementAndGet();
+
+            return (Connection)
+                    Proxy.newProxyInstance(
+                            Connection.class.getClassLoader(),
+                            new Class<?>[] {Connection.class},
+                            (proxy, method, args) -> {
+                                if (method.getName().equals("close")
+                                        && closed.getAndIncrement() == 0) {
+                                    open.decrementAndGet();
+                                    maxHoldNanos.accumulateAndGet(
+                                            System.nanoTime() - acquiredAt, Math::max);
+                                }
+                                try {
+                                    return method.invoke(connection, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                            });
+        }
+    }
+}
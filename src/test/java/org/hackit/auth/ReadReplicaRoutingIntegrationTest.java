@@ -0,0 +1,137 @@
+package org.hackit.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+
+import org.hackit.auth.dto.AuthenticationRequestDto;
+import org.hackit.auth.entity.User;
+import org.hackit.auth.repository.UserRepository;
+import org.hackit.config.TestRedisConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(
+        properties = {
+            "read-replicas.instances[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+            "read-replicas.instances[0].username=sa",
+            "read-replicas.instances[0].password="
+        })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestRedisConfiguration.class)
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private static final String CURRENT_DATABASE = "select database()";
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private MockMvc mockMvc;
+
+    @Autowired private UserRepository userRepository;
+
+    @Autowired private PasswordEncoder passwordEncoder;
+
+    @Autowired private ObjectMapper objectMapper;
+
+    private final JdbcTemplate replica =
+            new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("replicauser").ifPresent(userRepository::delete);
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // given
+        final var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        final var database =
+                readOnly.execute(
+                        status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    void shouldKeepReadWriteTransactionsOnPrimary() {
+        // when
+        final var database =
+                new TransactionTemplate(transactionManager)
+                        .execute(
+                                status ->
+                                        jdbcTemplate.queryForObject(
+                                                CURRENT_DATABASE, String.class));
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("testdb");
+    }
+
+    @Test
+    void shouldCheckRefreshTokensOnPrimaryWhileReplicaLags(@TempDir final Path snapshotDir)
+            throws Exception {
+        // given
+        final var user = new User();
+        user.setUsername("replicauser");
+        user.setEmail("replicauser@test.com");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setEmailVerified(true);
+        userRepository.save(user);
+        final var revoked = signIn();
+
+        // The replica stops replicating here: it keeps the revoked token and misses the new one
+        final var snapshot = snapshotDir.resolve("primary.sql").toString();
+        jdbcTemplate.execute("SCRIPT TO '%s'".formatted(snapshot));
+        replica.execute("RUNSCRIPT FROM '%s'".formatted(snapshot));
+        final var issued = signIn();
+
+        // when
+        mockMvc.perform(post("/api/auth/sign-out").cookie(revoked.getResponse().getCookies()))
+                .andExpect(status().isNoContent());
+
+        // then
+        mockMvc.perform(post("/api/auth/refresh").cookie(revoked.getResponse().getCookies()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/refresh").cookie(issued.getResponse().getCookies()))
+                .andExpect(status().isOk());
+    }
+
+    private MvcResult signIn() throws Exception {
+        return mockMvc.perform(
+                        post("/api/auth/sign-in")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        objectMapper.writeValueAsString(
+                                                new AuthenticationRequestDto(
+                                                        "replicauser", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
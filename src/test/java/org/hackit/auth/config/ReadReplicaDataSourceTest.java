@@ -0,0 +1,60 @@
+package org.hackit.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaDataSourceTest {
+
+    @Mock private HikariDataSource replica;
+
+    @Mock private DataSource primary;
+
+    @Mock private Connection replicaConnection;
+
+    @Mock private Connection primaryConnection;
+
+    @Test
+    void shouldServeReadsFromReplica() throws SQLException {
+        // given
+        final var dataSource =
+                new ReadReplicaDataSource(List.of(replica), primary, Duration.ofSeconds(30));
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // when/then
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void shouldFailOverToPrimaryAndSkipFailedReplica() throws SQLException {
+        // given
+        final var dataSource =
+                new ReadReplicaDataSource(List.of(replica), primary, Duration.ofSeconds(30));
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // when
+        final var first = dataSource.getConnection();
+        final var second = dataSource.getConnection();
+
+        // then
+        assertThat(first).isSameAs(primaryConnection);
+        assertThat(second).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+    }
+}
@@ -0,0 +1,107 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    @Mock private JwtDecoder delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, 100, meterRegistry);
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnce() {
+        // given
+        Jwt jwt = jwt("token", Instant.now().plus(Duration.ofMinutes(5)));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        // when
+        Jwt first = decoder.decode("token");
+        Jwt second = decoder.decode("token");
+
+        // then
+        assertThat(first).isSameAs(jwt);
+        assertThat(second).isSameAs(jwt);
+        verify(delegate, times(1)).decode("token");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotKeepExpiredTokens() {
+        // given
+        Jwt jwt = jwt("token", Instant.now().minusSeconds(1));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        // when
+        decoder.decode("token");
+        decoder.decode("token");
+
+        // then
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        // given
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+
+        // when/then
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    @Test
+    void shouldApplyValidatorOnCacheHits() {
+        // given
+        Jwt jwt = jwt("token", Instant.now().plus(Duration.ofMinutes(5)));
+        when(delegate.decode("token")).thenReturn(jwt);
+        decoder.decode("token");
+        decoder.setJwtValidator(
+                token ->
+                        OAuth2TokenValidatorResult.failure(
+                                new OAuth2Error("invalid_token", "Token has been revoked", null)));
+
+        // when/then
+        assertThatThrownBy(() -> decoder.decode("token"))
+                .isInstanceOf(JwtValidationException.class)
+                .hasMessageContaining("Token has been revoked");
+        verify(delegate, times(1)).decode("token");
+    }
+
+    private static Jwt jwt(final String token, final Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("testuser")
+                .issuedAt(expiresAt.minus(Duration.ofMinutes(5)))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
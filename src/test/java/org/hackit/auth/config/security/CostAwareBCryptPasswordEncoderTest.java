@@ -0,0 +1,42 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+class CostAwareBCryptPasswordEncoderTest {
+
+    private final CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+    @Test
+    void shouldNotUpgradeHashWithTargetCost() {
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+    }
+
+    @Test
+    void shouldUpgradeHashWithLowerOrHigherCost() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")))
+                .isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")))
+                .isTrue();
+    }
+
+    @Test
+    void shouldMatchAndUpgradeLegacyUnprefixedHashes() {
+        // given
+        DelegatingPasswordEncoder delegating =
+                new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", encoder));
+        delegating.setDefaultPasswordEncoderForMatches(encoder);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password");
+
+        // when/then
+        assertThat(delegating.matches("password", legacyHash)).isTrue();
+        assertThat(delegating.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(delegating.encode("password")).startsWith("{bcrypt}$2a$05$");
+        assertThat(delegating.upgradeEncoding(delegating.encode("password"))).isFalse();
+    }
+}
@@ -0,0 +1,44 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class HmacOtpHasherTest {
+
+    private final HmacOtpHasher hasher =
+            new HmacOtpHasher("0123456789abcdef0123456789abcdef".getBytes());
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    @Test
+    void shouldMatchOnlyTheIssuedCode() {
+        // given
+        String hash = hasher.hash(ownerId, "123456");
+
+        // when/then
+        assertThat(hasher.matches(ownerId, "123456", hash)).isTrue();
+        assertThat(hasher.matches(ownerId, "654321", hash)).isFalse();
+        assertThat(hasher.matches(ownerId, "123456", null)).isFalse();
+    }
+
+    @Test
+    void shouldSaltDigestWithOwnerId() {
+        // when
+        String hash = hasher.hash(ownerId, "123456");
+
+        // then
+        assertThat(hasher.hash(ownerId, "123456")).isEqualTo(hash);
+        assertThat(hasher.hash(UUID.randomUUID(), "123456")).isNotEqualTo(hash);
+        assertThat(hasher.matches(UUID.randomUUID(), "123456", hash)).isFalse();
+    }
+
+    @Test
+    void shouldRejectShortSecret() {
+        assertThatThrownBy(() -> new HmacOtpHasher(new byte[16]))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
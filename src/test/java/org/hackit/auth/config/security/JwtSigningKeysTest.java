@@ -0,0 +1,95 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+
+import org.hackit.auth.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+class JwtSigningKeysTest {
+
+    @Test
+    void shouldSignAndVerifyWithRsa() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        var keyPair = generator.generateKeyPair();
+
+        assertRoundTrip(
+                JwtSigningKeys.rsa(
+                        (RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate()));
+    }
+
+    @Test
+    void shouldSignAndVerifyWithEcdsa() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        var keyPair = generator.generateKeyPair();
+
+        assertRoundTrip(
+                JwtSigningKeys.ec(
+                        (ECPublicKey) keyPair.getPublic(), (ECPrivateKey) keyPair.getPrivate()));
+    }
+
+    @Test
+    void shouldSignAndVerifyWithEd25519() throws Exception {
+        var keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+        assertRoundTrip(JwtSigningKeys.ed25519(keyPair.getPublic(), keyPair.getPrivate()));
+    }
+
+    @Test
+    void shouldSignAndVerifyWithHmac() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        assertRoundTrip(JwtSigningKeys.hmac(secret));
+    }
+
+    @Test
+    void shouldRejectShortHmacSecret() {
+        assertThatThrownBy(() -> JwtSigningKeys.hmac(new byte[16]))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() {
+        byte[] secret = new byte[32];
+        byte[] otherSecret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        new SecureRandom().nextBytes(otherSecret);
+
+        String token = jwtService(JwtSigningKeys.hmac(otherSecret)).generateToken("testuser");
+
+        assertThatThrownBy(() -> JwtSigningKeys.hmac(secret).decoder().decode(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private static void assertRoundTrip(final JwtSigningKeys signingKeys) {
+        String token = jwtService(signingKeys).generateToken("testuser");
+
+        var jwt = signingKeys.decoder().decode(token);
+
+        assertThat(jwt.getSubject()).isEqualTo("testuser");
+        assertThat(jwt.getHeaders().get("alg").toString())
+                .isEqualTo(signingKeys.algorithm().getJwsAlgorithm().getName());
+    }
+
+    private static JwtService jwtService(final JwtSigningKeys signingKeys) {
+        return new JwtService(
+                "http://test-app.com",
+                "test-api",
+                Duration.ofMinutes(5),
+                signingKeys.algorithm().getJwsAlgorithm(),
+                signingKeys.encoder());
+    }
+}
@@ -0,0 +1,89 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hackit.auth.exception.RestErrorResponseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRunTaskAndRecordTimings() {
+        // when
+        String result = executor.execute(() -> "hash");
+
+        // then
+        assertThat(result).isEqualTo("hash");
+        assertThat(meterRegistry.get("password.hashing.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = submitBlocking(release);
+        awaitGauge("password.hashing.active", 1);
+        CompletableFuture<Boolean> queued = submitBlocking(release);
+        awaitGauge("password.hashing.queue.size", 1);
+
+        // when/then
+        assertThatThrownBy(() -> executor.execute(() -> true))
+                .isInstanceOfSatisfies(
+                        RestErrorResponseException.class,
+                        ex -> assertThat(ex.getStatusCode().value()).isEqualTo(503));
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get()).isTrue();
+        assertThat(queued.get()).isTrue();
+    }
+
+    private CompletableFuture<Boolean> submitBlocking(final CountDownLatch release) {
+        return CompletableFuture.supplyAsync(
+                () ->
+                        executor.execute(
+                                () -> {
+                                    try {
+                                        return release.await(5, TimeUnit.SECONDS);
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                        return false;
+                                    }
+                                }));
+    }
+
+    private void awaitGauge(final String name, final double expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (meterRegistry.get(name).gauge().value() == expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Gauge [%s] never reached %s".formatted(name, expected));
+    }
+}
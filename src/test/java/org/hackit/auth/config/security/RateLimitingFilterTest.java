@@ -0,0 +1,176 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hackit.auth.config.RateLimitConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+
+class RateLimitingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RateLimitingFilter filter =
+            new RateLimitingFilter(
+                    new ObjectMapper(),
+                    Map.of(
+                            "sign-in",
+                            new RateLimitConfig.PolicyProperties(
+                                    null,
+                                    List.of("/api/auth/sign-in"),
+                                    List.of(RateLimitKey.IP, RateLimitKey.USERNAME),
+                                    2,
+                                    Duration.ofMinutes(1),
+                                    null),
+                            "availability",
+                            new RateLimitConfig.PolicyProperties(
+                                    HttpMethod.GET,
+                                    List.of("/api/auth/availability"),
+                                    List.of(RateLimitKey.IP),
+                                    1,
+                                    Duration.ofMinutes(1),
+                                    null)),
+                    null,
+                    1_000,
+                    meterRegistry);
+
+    @Test
+    void shouldRejectOnceUsernameBucketIsEmpty() throws Exception {
+        // given
+        signIn("10.0.0.1", "john");
+        signIn("10.0.0.2", "john");
+
+        // when
+        final var response = signIn("10.0.0.3", "John");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(response.getContentAsString()).contains("errors/too-many-requests");
+        assertThat(meterRegistry.counter("rate-limit.rejected", "policy", "sign-in").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReplayBodyToDownstreamFilters() throws Exception {
+        // given
+        final var chain = new MockFilterChain();
+        final var body = "{\"username\":\"jane\",\"password\":\"secret\"}";
+
+        // when
+        filter.doFilter(request("10.0.0.1", body), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest().getInputStream().readAllBytes()).isEqualTo(body.getBytes());
+    }
+
+    @Test
+    void shouldSignalBufferedBodyToAsyncReaders() throws Exception {
+        // given
+        final var chain = new MockFilterChain();
+        final var body = "{\"username\":\"jane\"}";
+        filter.doFilter(request("10.0.0.1", body), new MockHttpServletResponse(), chain);
+        final var input = chain.getRequest().getInputStream();
+        final var read = new ByteArrayOutputStream();
+        final var allDataRead = new AtomicBoolean();
+
+        // when
+        input.setReadListener(
+                new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        while (input.isReady() && !input.isFinished()) {
+                            final var value = input.read();
+                            if (value != -1) {
+                                read.write(value);
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allDataRead.set(true);
+                    }
+
+                    @Override
+                    public void onError(final Throwable throwable) {}
+                });
+
+        // then
+        assertThat(read.toString()).isEqualTo(body);
+        assertThat(allDataRead).isTrue();
+    }
+
+    @Test
+    void shouldLimitPoliciesByTheirMethod() throws Exception {
+        // given
+        final var first = availability();
+
+        // when
+        final var second = availability();
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(
+                        meterRegistry
+                                .counter("rate-limit.rejected", "policy", "availability")
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreOtherEndpoints() throws Exception {
+        // given
+        final var request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        final var chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private MockHttpServletResponse availability() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/auth/availability");
+        request.setRemoteAddr("10.0.0.1");
+        request.setParameter("username", "john");
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletResponse signIn(final String ip, final String username)
+            throws Exception {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(
+                request(ip, "{\"username\":\"%s\"}".formatted(username)),
+                response,
+                new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(final String ip, final String body) {
+        final var request = new MockHttpServletRequest("POST", "/api/auth/sign-in");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes());
+        return request;
+    }
+}
@@ -0,0 +1,67 @@
+package org.hackit.auth.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hackit.auth.exception.ProblemDetailBuilder.forStatus;
+
+import java.time.Duration;
+
+import org.hackit.auth.exception.ErrorType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RejectionResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RejectionResponse rejectionResponse =
+            new RejectionResponse(
+                    objectMapper,
+                    HttpStatus.UNAUTHORIZED,
+                    ErrorType.UNAUTHORIZED,
+                    meterRegistry,
+                    Duration.ofMinutes(1));
+
+    @Test
+    void shouldWritePrerenderedBodyAndCountRejections() throws Exception {
+        // given
+        final var expected =
+                objectMapper.writeValueAsString(
+                        forStatus(HttpStatus.UNAUTHORIZED)
+                                .withErrorType(ErrorType.UNAUTHORIZED)
+                                .build());
+
+        // when
+        final var first = reject();
+        final var second = reject();
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(401);
+        assertThat(first.getContentType()).isEqualTo("application/json");
+        assertThat(first.getContentAsString()).isEqualTo(expected);
+        assertThat(second.getContentAsString()).isEqualTo(expected);
+        assertThat(second.getContentLength()).isEqualTo(expected.length());
+        assertThat(
+                        meterRegistry
+                                .counter("http.server.requests.rejected", "status", "401")
+                                .count())
+                .isEqualTo(2);
+    }
+
+    private MockHttpServletResponse reject() throws Exception {
+        final var response = new MockHttpServletResponse();
+        rejectionResponse.write(
+                new MockHttpServletRequest("GET", "/api/user/me"),
+                response,
+                new BadCredentialsException("Invalid token"));
+        return response;
+    }
+}
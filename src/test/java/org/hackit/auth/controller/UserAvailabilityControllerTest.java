@@ -0,0 +1,46 @@
+package org.hackit.auth.controller;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hackit.auth.config.SecurityTestConfig;
+import org.hackit.auth.service.UserAvailabilityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = UserAvailabilityController.class)
+@Import(SecurityTestConfig.class)
+@ActiveProfiles("test")
+class UserAvailabilityControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private UserAvailabilityService userAvailabilityService;
+
+    @Test
+    void shouldReportAvailabilityOfRequestedFieldsOnly() throws Exception {
+        // given
+        when(userAvailabilityService.isUsernameAvailable("testuser")).thenReturn(false);
+
+        // when/then
+        mockMvc.perform(get("/api/auth/availability").param("username", "testuser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(false))
+                .andExpect(jsonPath("$.email").doesNotExist());
+    }
+
+    @Test
+    void shouldRejectRequestWithoutUsernameAndEmail() throws Exception {
+        // when/then
+        mockMvc.perform(get("/api/auth/availability")).andExpect(status().isBadRequest());
+        verifyNoInteractions(userAvailabilityService);
+    }
+}
@@ -0,0 +1,87 @@
+package org.hackit.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import org.hackit.auth.model.OtpVerification;
+import org.junit.jupiter.api.Test;
+
+class InMemoryOtpStoreTest {
+
+    private final InMemoryOtpStore store = new InMemoryOtpStore(100);
+
+    @Test
+    void shouldConsumeCodeOnSuccess() {
+        // given
+        store.save("key", "hash", Duration.ofMinutes(5));
+
+        // when
+        final var first = store.verifyAndConsume("key", "hash", 3);
+        final var second = store.verifyAndConsume("key", "hash", 3);
+
+        // then
+        assertThat(first).isEqualTo(OtpVerification.VALID);
+        assertThat(second).isEqualTo(OtpVerification.NOT_FOUND);
+    }
+
+    @Test
+    void shouldDropCodeAfterMaxAttempts() {
+        // given
+        store.save("key", "hash", Duration.ofMinutes(5));
+
+        // when/then
+        assertThat(store.verifyAndConsume("key", "wrong", 3)).isEqualTo(OtpVerification.INVALID);
+        assertThat(store.verifyAndConsume("key", "wrong", 3)).isEqualTo(OtpVerification.INVALID);
+        assertThat(store.verifyAndConsume("key", "wrong", 3))
+                .isEqualTo(OtpVerification.TOO_MANY_ATTEMPTS);
+        assertThat(store.find("key")).isEmpty();
+    }
+
+    @Test
+    void shouldResetAttemptsWhenCodeIsReissued() {
+        // given
+        store.save("key", "old", Duration.ofMinutes(5));
+        store.verifyAndConsume("key", "wrong", 2);
+
+        // when
+        store.save("key", "new", Duration.ofMinutes(5));
+
+        // then
+        assertThat(store.verifyAndConsume("key", "wrong", 2)).isEqualTo(OtpVerification.INVALID);
+        assertThat(store.verifyAndConsume("key", "new", 2)).isEqualTo(OtpVerification.VALID);
+    }
+
+    @Test
+    void shouldKeepNoMoreCodesThanMaximumSize() {
+        // given
+        final var bounded = new InMemoryOtpStore(10, Runnable::run);
+
+        // when
+        IntStream.range(0, 100)
+                .forEach(i -> bounded.save("key" + i, "hash" + i, Duration.ofMinutes(5)));
+
+        // then
+        assertThat(IntStream.range(0, 100).filter(i -> bounded.find("key" + i).isPresent()))
+                .hasSizeLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void shouldKeepFrequentlyReadCodeOverNewOnes() {
+        // given
+        final var bounded = new InMemoryOtpStore(10, Runnable::run);
+        bounded.save("hot", "hash", Duration.ofMinutes(5));
+        // Caffeine only starts counting frequencies once the cache is half full
+        IntStream.range(0, 5)
+                .forEach(i -> bounded.save("warm" + i, "hash" + i, Duration.ofMinutes(5)));
+        IntStream.range(0, 20).forEach(i -> bounded.find("hot"));
+
+        // when
+        IntStream.range(0, 100)
+                .forEach(i -> bounded.save("key" + i, "hash" + i, Duration.ofMinutes(5)));
+
+        // then
+        assertThat(bounded.find("hot")).contains("hash");
+    }
+}
@@ -0,0 +1,136 @@
+package org.hackit.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.entity.RefreshToken;
+import org.hackit.auth.entity.User;
+import org.hackit.auth.model.RefreshTokenDetails;
+import org.hackit.auth.model.RefreshTokenOwner;
+import org.hackit.auth.model.RefreshTokenSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JpaRefreshTokenStoreTest {
+
+    @Mock private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock private UserRepository userRepository;
+
+    private JpaRefreshTokenStore refreshTokenStore;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID refreshTokenId = UUID.randomUUID();
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new JpaRefreshTokenStore(refreshTokenRepository, userRepository);
+        ReflectionTestUtils.setField(user, "id", userId);
+        user.setUsername("testuser");
+    }
+
+    @Test
+    void shouldIssueTokenReferencingUserById() {
+        // given
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(1));
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+        when(refreshTokenRepository.save(any(RefreshToken.class)))
+                .thenAnswer(
+                        invocation -> {
+                            RefreshToken token = invocation.getArgument(0);
+                            ReflectionTestUtils.setField(token, "id", refreshTokenId);
+                            return token;
+                        });
+
+        // when
+        RefreshTokenDetails details = refreshTokenStore.issue(userId, "testuser", expiresAt);
+
+        // then
+        verify(userRepository, never()).findById(any());
+        assertThat(details.token()).isEqualTo(refreshTokenId.toString());
+        assertThat(details.expiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    void shouldFindActiveTokenWithoutLoadingEntities() {
+        // given
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(1));
+        when(refreshTokenRepository.findActiveOwner(eq(refreshTokenId), any()))
+                .thenReturn(Optional.of(new RefreshTokenOwner(userId, "testuser", expiresAt)));
+
+        // when
+        Optional<RefreshTokenDetails> details =
+                refreshTokenStore.findActive(refreshTokenId.toString());
+
+        // then
+        assertThat(details)
+                .contains(
+                        new RefreshTokenDetails(
+                                refreshTokenId.toString(), userId, "testuser", expiresAt));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenFormatIsInvalid() {
+        assertThatThrownBy(() -> refreshTokenStore.findActive("invalid-token-format"))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("Invalid refresh token format");
+        assertThatThrownBy(() -> refreshTokenStore.revoke("invalid-token-format"))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("Invalid refresh token format");
+    }
+
+    @Test
+    void shouldRevokeToken() {
+        // when
+        refreshTokenStore.revoke(refreshTokenId.toString());
+
+        // then
+        verify(refreshTokenRepository).deleteById(refreshTokenId);
+    }
+
+    @Test
+    void shouldRevokeAllTokensOfUser() {
+        // given
+        when(refreshTokenRepository.deleteAllByUserId(userId)).thenReturn(3);
+
+        // when
+        long revoked = refreshTokenStore.revokeAll(userId);
+
+        // then
+        assertThat(revoked).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFindActiveSessionsOfUser() {
+        // given
+        final var pageable = PageRequest.of(0, 20);
+        final var session =
+                new RefreshTokenSession(Instant.now(), Instant.now().plus(Duration.ofDays(1)));
+        when(refreshTokenRepository.findSessions(eq(userId), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(session), pageable, 1));
+
+        // when
+        final var sessions = refreshTokenStore.findSessions(userId, pageable);
+
+        // then
+        assertThat(sessions.getContent()).containsExactly(session);
+        assertThat(sessions.getTotalElements()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,92 @@
+package org.hackit.auth.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RedisAccessTokenRevocationsTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private RedisAccessTokenRevocations revocations;
+
+    @BeforeEach
+    void setUp() {
+        revocations =
+                new RedisAccessTokenRevocations(
+                        redisTemplate,
+                        Duration.ofMinutes(5),
+                        1_000,
+                        0.01,
+                        Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldNotCallRedisForUnknownTokens() {
+        assertThat(revocations.isRevoked("unknown")).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void shouldStoreAndPublishRevocation() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey("jwt:revoked:jwt-id")).thenReturn(true);
+
+        // when
+        revocations.revoke("jwt-id", NOW.plus(Duration.ofMinutes(3)));
+
+        // then
+        verify(valueOperations).set("jwt:revoked:jwt-id", "1", Duration.ofMinutes(3));
+        verify(redisTemplate).convertAndSend(RedisAccessTokenRevocations.CHANNEL, "jwt-id");
+        assertThat(revocations.isRevoked("jwt-id")).isTrue();
+    }
+
+    @Test
+    void shouldConfirmFilterHitsReceivedFromOtherNodes() {
+        // given
+        when(redisTemplate.hasKey("jwt:revoked:jwt-id")).thenReturn(false);
+
+        // when
+        revocations.onMessage(
+                new DefaultMessage(
+                        RedisAccessTokenRevocations.CHANNEL.getBytes(UTF_8),
+                        "jwt-id".getBytes(UTF_8)),
+                null);
+
+        // then
+        assertThat(revocations.isRevoked("jwt-id")).isFalse();
+        verify(redisTemplate).hasKey("jwt:revoked:jwt-id");
+    }
+
+    @Test
+    void shouldIgnoreAlreadyExpiredTokens() {
+        // when
+        revocations.revoke("jwt-id", NOW.minusSeconds(1));
+
+        // then
+        verify(redisTemplate, never()).opsForValue();
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+}
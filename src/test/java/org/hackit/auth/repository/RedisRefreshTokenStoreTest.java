@@ -0,0 +1,194 @@
+package org.hackit.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRefreshTokenStoreTest {
+
+    private static final UUID USER_ID = UUID.fromString("6f1c2a52-6b1e-4d8a-9a0e-0c2b7c3d4e5f");
+
+    private static final String TOKEN_ID = "0b8e5c1d-3f2a-4b6c-8d7e-9f0a1b2c3d4e";
+
+    private static final String USER_INDEX_KEY = "refresh-token:user:" + USER_ID;
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    // Receives the commands queued inside executePipelined callbacks
+    @Mock private RedisOperations<String, String> pipeline;
+
+    @Mock private HashOperations<String, String, String> hashOperations;
+
+    @Mock private ZSetOperations<String, String> zSetOperations;
+
+    @Captor private ArgumentCaptor<Map<String, String>> fields;
+
+    private RedisRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisRefreshTokenStore(redisTemplate);
+    }
+
+    @Test
+    void shouldStoreTokenHashAndIndexItByExpiry() {
+        // given
+        final var expiresAt = Instant.now().plus(Duration.ofDays(1));
+        when(pipeline.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(pipeline.opsForZSet()).thenReturn(zSetOperations);
+        pipelineReturns(List.of());
+
+        // when
+        final var details = store.issue(USER_ID, "testuser", expiresAt);
+
+        // then
+        final var tokenKey = "refresh-token:" + details.token();
+        verify(hashOperations).putAll(eq(tokenKey), fields.capture());
+        assertThat(fields.getValue())
+                .containsEntry("userId", USER_ID.toString())
+                .containsEntry("username", "testuser")
+                .containsEntry("expiresAt", String.valueOf(expiresAt.toEpochMilli()))
+                .containsKey("createdAt");
+        verify(pipeline).expire(eq(tokenKey), any(Duration.class));
+        verify(zSetOperations)
+                .add(USER_INDEX_KEY, details.token(), (double) expiresAt.toEpochMilli());
+        verify(zSetOperations).removeRangeByScore(eq(USER_INDEX_KEY), eq(0d), anyDouble());
+        verify(pipeline).expire(eq(USER_INDEX_KEY), any(Duration.class));
+        assertThat(details.userId()).isEqualTo(USER_ID);
+        assertThat(details.expiresAt()).isEqualTo(expiresAt);
+    }
+
+    @Test
+    void shouldFindActiveToken() {
+        // given
+        final var expiresAt = Instant.ofEpochMilli(Instant.now().plusSeconds(60).toEpochMilli());
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("refresh-token:" + TOKEN_ID))
+                .thenReturn(
+                        Map.of(
+                                "userId",
+                                USER_ID.toString(),
+                                "username",
+                                "testuser",
+                                "expiresAt",
+                                String.valueOf(expiresAt.toEpochMilli())));
+
+        // when
+        final var details = store.findActive(TOKEN_ID);
+
+        // then
+        assertThat(details)
+                .hasValueSatisfying(
+                        token -> {
+                            assertThat(token.token()).isEqualTo(TOKEN_ID);
+                            assertThat(token.userId()).isEqualTo(USER_ID);
+                            assertThat(token.username()).isEqualTo("testuser");
+                            assertThat(token.expiresAt()).isEqualTo(expiresAt);
+                        });
+    }
+
+    @Test
+    void shouldNotFindExpiredOrMissingToken() {
+        // given
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        when(hashOperations.entries("refresh-token:" + TOKEN_ID))
+                .thenReturn(
+                        Map.of(
+                                "userId",
+                                USER_ID.toString(),
+                                "username",
+                                "testuser",
+                                "expiresAt",
+                                String.valueOf(Instant.now().minusSeconds(1).toEpochMilli())));
+
+        // when/then
+        assertThat(store.findActive(TOKEN_ID)).isEmpty();
+        assertThat(store.findActive(UUID.randomUUID().toString())).isEmpty();
+    }
+
+    @Test
+    void shouldRevokeTokenAndItsIndexEntry() {
+        // given
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(hashOperations.get("refresh-token:" + TOKEN_ID, "userId"))
+                .thenReturn(USER_ID.toString());
+
+        // when
+        store.revoke(TOKEN_ID);
+
+        // then
+        verify(redisTemplate).delete("refresh-token:" + TOKEN_ID);
+        verify(zSetOperations).remove(USER_INDEX_KEY, TOKEN_ID);
+    }
+
+    @Test
+    void shouldRevokeAllIndexedTokensAndCountOnlyDeletedOnes() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(pipeline.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range(USER_INDEX_KEY, 0, -1))
+                .thenReturn(new LinkedHashSet<>(List.of("first", "expired", "second")));
+        // DEL per token, then ZREM reporting how many index members it removed
+        pipelineReturns(List.<Object>of(true, false, true, 3L));
+
+        // when
+        final var revoked = store.revokeAll(USER_ID);
+
+        // then
+        assertThat(revoked).isEqualTo(2);
+        verify(pipeline).delete("refresh-token:first");
+        verify(pipeline).delete("refresh-token:expired");
+        verify(pipeline).delete("refresh-token:second");
+        verify(zSetOperations).remove(USER_INDEX_KEY, "first", "expired", "second");
+    }
+
+    @Test
+    void shouldNotOpenPipelineWhenUserHasNoTokens() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range(USER_INDEX_KEY, 0, -1)).thenReturn(new LinkedHashSet<>());
+
+        // when
+        final var revoked = store.revokeAll(USER_ID);
+
+        // then
+        assertThat(revoked).isZero();
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pipelineReturns(final List<Object> results) {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenAnswer(
+                        invocation -> {
+                            invocation.<SessionCallback<Object>>getArgument(0).execute(pipeline);
+                            return results;
+                        });
+    }
+}
@@ -0,0 +1,106 @@
+package org.hackit.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+class SignedRefreshTokenStoreTest {
+
+    private final byte[] secret = "0123456789abcdef0123456789abcdef".getBytes();
+
+    private final SignedRefreshTokenStore refreshTokenStore =
+            new SignedRefreshTokenStore(
+                    secret, new InMemoryRefreshTokenRevocations(), Duration.ofDays(1));
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldResolveIssuedTokenWithoutLookup() {
+        // given
+        final var expiresAt = Instant.now().plus(Duration.ofDays(1));
+
+        // when
+        final var issued = refreshTokenStore.issue(userId, "пользователь", expiresAt);
+        final var resolved = refreshTokenStore.findActive(issued.token());
+
+        // then
+        assertThat(resolved).contains(issued);
+        assertThat(issued.expiresAt())
+                .isEqualTo(Instant.ofEpochSecond(expiresAt.getEpochSecond()));
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherSecret() {
+        // given
+        final var otherStore =
+                new SignedRefreshTokenStore(
+                        "fedcba9876543210fedcba9876543210".getBytes(),
+                        new InMemoryRefreshTokenRevocations(),
+                        Duration.ofDays(1));
+        final var issued =
+                otherStore.issue(userId, "testuser", Instant.now().plus(Duration.ofDays(1)));
+
+        // when/then
+        assertThat(refreshTokenStore.findActive(issued.token())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectExpiredAndRevokedTokens() {
+        // given
+        final var expired =
+                refreshTokenStore.issue(userId, "testuser", Instant.now().minusSeconds(5));
+        final var revoked =
+                refreshTokenStore.issue(userId, "testuser", Instant.now().plus(Duration.ofDays(1)));
+
+        // when
+        refreshTokenStore.revoke(revoked.token());
+
+        // then
+        assertThat(refreshTokenStore.findActive(expired.token())).isEmpty();
+        assertThat(refreshTokenStore.findActive(revoked.token())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTokensIssuedBeforeRevokeAll() {
+        // given
+        final var expiresAt = Instant.now().plus(Duration.ofDays(1));
+        final var first = refreshTokenStore.issue(userId, "testuser", expiresAt);
+        final var second = refreshTokenStore.issue(userId, "testuser", expiresAt);
+        final var otherUsers = refreshTokenStore.issue(UUID.randomUUID(), "other", expiresAt);
+
+        // when
+        refreshTokenStore.revokeAll(userId);
+
+        // then
+        assertThat(refreshTokenStore.findActive(first.token())).isEmpty();
+        assertThat(refreshTokenStore.findActive(second.token())).isEmpty();
+        assertThat(refreshTokenStore.findActive(otherUsers.token())).contains(otherUsers);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenFormatIsInvalid() {
+        assertThatThrownBy(() -> refreshTokenStore.findActive(UUID.randomUUID().toString()))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("Invalid refresh token format");
+        assertThatThrownBy(() -> refreshTokenStore.findActive("not base64!.sig"))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("Invalid refresh token format");
+    }
+
+    @Test
+    void shouldRejectShortSecret() {
+        assertThatThrownBy(
+                        () ->
+                                new SignedRefreshTokenStore(
+                                        new byte[16],
+                                        new InMemoryRefreshTokenRevocations(),
+                                        Duration.ofDays(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
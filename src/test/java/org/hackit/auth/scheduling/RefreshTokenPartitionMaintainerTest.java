@@ -0,0 +1,100 @@
+package org.hackit.auth.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPartitionMaintainerTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void shouldCreateMissingPartitionsAndDropExpiredOnes() {
+        // given
+        final var maintainer =
+                new RefreshTokenPartitionMaintainer(jdbcTemplate, Duration.ofDays(2), clock);
+        when(jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)",
+                        Boolean.class,
+                        RefreshTokenPartitionMaintainer.MAINTENANCE_LOCK_KEY))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(
+                        List.of(
+                                "refresh_tokens_p20261015",
+                                "refresh_tokens_p20261016",
+                                "refresh_tokens_p20261017",
+                                "refresh_tokens_p20261018"));
+
+        // when
+        maintainer.maintain();
+
+        // then
+        final var statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(statements.capture());
+        assertThat(statements.getAllValues()).hasSize(4);
+        assertThat(statements.getAllValues().get(0))
+                .contains("CREATE TABLE refresh_tokens_p20261019")
+                .contains("DELETE FROM refresh_tokens_default")
+                .contains("ATTACH PARTITION refresh_tokens_p20261019")
+                .contains("FOR VALUES FROM ('2026-10-19') TO ('2026-10-20')");
+        assertThat(statements.getAllValues().get(1))
+                .contains("ATTACH PARTITION refresh_tokens_p20261020");
+        assertThat(statements.getAllValues().subList(2, 4))
+                .containsExactly(
+                        "DROP TABLE IF EXISTS refresh_tokens_p20261015",
+                        "DROP TABLE IF EXISTS refresh_tokens_p20261016");
+        verify(jdbcTemplate)
+                .update(
+                        "DELETE FROM refresh_tokens_default WHERE expires_at < ?",
+                        LocalDate.of(2026, 10, 17));
+    }
+
+    @Test
+    void shouldSkipRunWhileAnotherNodeHoldsTheLock() {
+        // given
+        final var maintainer =
+                new RefreshTokenPartitionMaintainer(jdbcTemplate, Duration.ofDays(2), clock);
+        when(jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)",
+                        Boolean.class,
+                        RefreshTokenPartitionMaintainer.MAINTENANCE_LOCK_KEY))
+                .thenReturn(false);
+
+        // when
+        maintainer.maintain();
+
+        // then
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void shouldIgnorePartitionsWithUnexpectedNames() {
+        assertThat(RefreshTokenPartitionMaintainer.partitionDay("refresh_tokens_p20261018"))
+                .contains(LocalDate.of(2026, 10, 18));
+        assertThat(RefreshTokenPartitionMaintainer.partitionDay("refresh_tokens_default"))
+                .isEmpty();
+        assertThat(RefreshTokenPartitionMaintainer.partitionDay("users")).isEmpty();
+    }
+}
@@ -10,11 +10,14 @@ import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.hackit.auth.entity.RefreshToken;
+import org.hackit.auth.dto.UserProfileDto;
 import org.hackit.auth.entity.User;
 import org.hackit.auth.model.AuthTokens;
-import org.hackit.auth.repository.RefreshTokenRepository;
-import org.hackit.auth.repository.UserRepository;
+import org.hackit.auth.model.AuthenticatedUser;
+import org.hackit.auth.model.RefreshTokenDetails;
+import org.hackit.auth.model.UserIdentity;
+import org.hackit.auth.repository.AccessTokenRevocations;
+import org.hackit.auth.repository.RefreshTokenStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,9 +26,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationServiceTest {
@@ -34,9 +39,11 @@ class AuthenticationServiceTest {
 
     @Mock private JwtService jwtService;
 
-    @Mock private UserRepository userRepository;
+    @Mock private RefreshTokenStore refreshTokenStore;
 
-    @Mock private RefreshTokenRepository refreshTokenRepository;
+    @Mock private AccessTokenRevocations accessTokenRevocations;
+
+    @Mock private UserService userService;
 
     @Mock private Authentication authentication;
 
@@ -45,14 +52,19 @@ class AuthenticationServiceTest {
     private final String username = "testuser";
     private final String password = "password";
     private final String accessToken = "mock.access.token";
-    private final UUID refreshTokenId = UUID.randomUUID();
+    private final String refreshToken = UUID.randomUUID().toString();
+    private final UUID userId = UUID.randomUUID();
     private final User user = new User();
 
     @BeforeEach
     void setUp() {
         authenticationService =
                 new AuthenticationService(
-                        authenticationManager, jwtService, userRepository, refreshTokenRepository);
+                        authenticationManager,
+                        jwtService,
+                        refreshTokenStore,
+                        accessTokenRevocations,
+                        userService);
 
         // Set the refresh token TTL using reflection (normally set by @Value)
         try {
@@ -66,179 +78,174 @@ class AuthenticationServiceTest {
         }
 
         // Set up user
+        try {
+            var idField = User.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(user, userId);
+            idField.setAccessible(false);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set id field", e);
+        }
         user.setUsername(username);
     }
 
     @Test
     void shouldAuthenticateWithUsernameAndPassword() {
         // given
+        final var principal =
+                new AuthenticatedUser(
+                        new UserIdentity(userId, username, "testuser@test.com", true), password);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+        when(authentication.getPrincipal()).thenReturn(principal);
         when(jwtService.generateToken(username)).thenReturn(accessToken);
-
-        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
-        when(refreshTokenRepository.save(tokenCaptor.capture()))
-                .thenAnswer(
-                        invocation -> {
-                            RefreshToken token = invocation.getArgument(0);
-                            // Mock the UUID generation to be predictable in tests
-                            try {
-                                var idField = RefreshToken.class.getDeclaredField("id");
-                                idField.setAccessible(true);
-                                idField.set(token, refreshTokenId);
-                                idField.setAccessible(false);
-                            } catch (Exception e) {
-                                throw new RuntimeException("Failed to set id field", e);
-                            }
-                            return token;
-                        });
+        stubIssue();
 
         // when
         AuthTokens result = authenticationService.authenticate(username, password);
 
         // then
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository).findByUsername(username);
         verify(jwtService).generateToken(username);
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
 
-        RefreshToken savedToken = tokenCaptor.getValue();
-        assertThat(savedToken.getUser()).isEqualTo(user);
-        assertThat(savedToken.getExpiresAt()).isAfter(Instant.now());
+        ArgumentCaptor<Instant> expiresAtCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(refreshTokenStore).issue(eq(userId), eq(username), expiresAtCaptor.capture());
+        assertThat(expiresAtCaptor.getValue()).isAfter(Instant.now());
 
         assertThat(result.accessToken()).isEqualTo(accessToken);
-        assertThat(result.refreshToken()).isEqualTo(refreshTokenId.toString());
+        assertThat(result.refreshToken()).isEqualTo(refreshToken);
     }
 
     @Test
-    void shouldThrowExceptionWhenUserNotFound() {
+    void shouldThrowExceptionWhenPrincipalIsUnexpected() {
         // given
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
+        when(authentication.getPrincipal()).thenReturn(username);
 
         // when/then
         assertThatThrownBy(() -> authenticationService.authenticate(username, password))
-                .isInstanceOf(UsernameNotFoundException.class)
+                .isInstanceOf(InternalAuthenticationServiceException.class)
                 .hasMessageContaining(username);
+        verifyNoInteractions(jwtService, refreshTokenStore);
     }
 
     @Test
     void shouldAuthenticate() {
         // given
         when(jwtService.generateToken(username)).thenReturn(accessToken);
-
-        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
-        when(refreshTokenRepository.save(tokenCaptor.capture()))
-                .thenAnswer(
-                        invocation -> {
-                            RefreshToken token = invocation.getArgument(0);
-                            // Mock the UUID generation
-                            try {
-                                var idField = RefreshToken.class.getDeclaredField("id");
-                                idField.setAccessible(true);
-                                idField.set(token, refreshTokenId);
-                                idField.setAccessible(false);
-                            } catch (Exception e) {
-                                throw new RuntimeException("Failed to set id field", e);
-                            }
-                            return token;
-                        });
+        stubIssue();
 
         // when
         AuthTokens result = authenticationService.authenticate(user);
 
         // then
         verify(jwtService).generateToken(username);
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
-
-        RefreshToken savedToken = tokenCaptor.getValue();
-        assertThat(savedToken.getUser()).isEqualTo(user);
-        assertThat(savedToken.getExpiresAt()).isAfter(Instant.now());
+        verify(refreshTokenStore).issue(eq(userId), eq(username), any(Instant.class));
 
         assertThat(result.accessToken()).isEqualTo(accessToken);
-        assertThat(result.refreshToken()).isEqualTo(refreshTokenId.toString());
+        assertThat(result.refreshToken()).isEqualTo(refreshToken);
+        assertThat(result.refreshTokenTtl()).isPositive();
     }
 
     @Test
     void shouldRefreshToken() {
         // given
-        RefreshToken token = new RefreshToken();
-        token.setUser(user);
-        token.setExpiresAt(Instant.now().plus(Duration.ofDays(7)));
-
-        // Set the id field using reflection
-        try {
-            var idField = RefreshToken.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(token, refreshTokenId);
-            idField.setAccessible(false);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to set id field", e);
-        }
-
-        when(refreshTokenRepository.findByIdAndExpiresAtAfter(
-                        eq(refreshTokenId), any(Instant.class)))
-                .thenReturn(Optional.of(token));
+        when(refreshTokenStore.findActive(refreshToken))
+                .thenReturn(
+                        Optional.of(
+                                new RefreshTokenDetails(
+                                        refreshToken,
+                                        userId,
+                                        username,
+                                        Instant.now().plus(Duration.ofDays(7)))));
         when(jwtService.generateToken(username)).thenReturn(accessToken);
 
         // when
-        AuthTokens result = authenticationService.refreshToken(refreshTokenId.toString());
+        AuthTokens result = authenticationService.refreshToken(refreshToken);
 
         // then
-        verify(refreshTokenRepository)
-                .findByIdAndExpiresAtAfter(eq(refreshTokenId), any(Instant.class));
+        verify(refreshTokenStore).findActive(refreshToken);
         verify(jwtService).generateToken(username);
 
         assertThat(result.accessToken()).isEqualTo(accessToken);
-        assertThat(result.refreshToken()).isEqualTo(refreshTokenId.toString());
+        assertThat(result.refreshToken()).isEqualTo(refreshToken);
     }
 
     @Test
-    void shouldThrowExceptionWhenRefreshingInvalidToken() {
+    void shouldEmbedProfileClaimsWhenEnabled() {
         // given
-        String invalidToken = "invalid-token-format";
+        ReflectionTestUtils.setField(authenticationService, "profileClaims", true);
+        final var profile = new UserProfileDto("testuser@test.com", username, true);
+        when(refreshTokenStore.findActive(refreshToken))
+                .thenReturn(
+                        Optional.of(
+                                new RefreshTokenDetails(
+                                        refreshToken,
+                                        userId,
+                                        username,
+                                        Instant.now().plus(Duration.ofDays(7)))));
+        when(userService.getUserProfile(username)).thenReturn(profile);
+        when(jwtService.generateToken(profile)).thenReturn(accessToken);
 
-        // when/then
-        assertThatThrownBy(() -> authenticationService.refreshToken(invalidToken))
-                .isInstanceOf(BadCredentialsException.class)
-                .hasMessageContaining("Invalid refresh token format");
+        // when
+        AuthTokens result = authenticationService.refreshToken(refreshToken);
+
+        // then
+        assertThat(result.accessToken()).isEqualTo(accessToken);
+        verify(jwtService, never()).generateToken(username);
     }
 
     @Test
     void shouldThrowExceptionWhenRefreshingExpiredToken() {
         // given
-        when(refreshTokenRepository.findByIdAndExpiresAtAfter(
-                        eq(refreshTokenId), any(Instant.class)))
-                .thenReturn(Optional.empty());
+        when(refreshTokenStore.findActive(refreshToken)).thenReturn(Optional.empty());
 
         // when/then
-        assertThatThrownBy(() -> authenticationService.refreshToken(refreshTokenId.toString()))
+        assertThatThrownBy(() -> authenticationService.refreshToken(refreshToken))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessageContaining("Refresh token expired or not found");
     }
 
     @Test
     void shouldRevokeRefreshToken() {
-        // given
-        String refreshToken = refreshTokenId.toString();
-
         // when
         authenticationService.revokeRefreshToken(refreshToken);
 
         // then
-        verify(refreshTokenRepository).deleteById(refreshTokenId);
+        verify(refreshTokenStore).revoke(refreshToken);
     }
 
     @Test
-    void shouldThrowExceptionWhenRevokingInvalidToken() {
+    void shouldRevokeAccessTokenByJwtId() {
         // given
-        String invalidToken = "invalid-token-format";
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+        Jwt jwt =
+                Jwt.withTokenValue(accessToken)
+                        .header("alg", "RS256")
+                        .jti("jwt-id")
+                        .subject(username)
+                        .issuedAt(expiresAt.minus(Duration.ofMinutes(5)))
+                        .expiresAt(expiresAt)
+                        .build();
 
-        // when/then
-        assertThatThrownBy(() -> authenticationService.revokeRefreshToken(invalidToken))
-                .isInstanceOf(BadCredentialsException.class)
-                .hasMessageContaining("Invalid refresh token format");
+        // when
+        authenticationService.revokeAccessToken(jwt);
+        authenticationService.revokeAccessToken(null);
+
+        // then
+        verify(accessTokenRevocations).revoke("jwt-id", expiresAt);
+        verifyNoMoreInteractions(accessTokenRevocations);
+    }
+
+    private void stubIssue() {
+        when(refreshTokenStore.issue(eq(userId), eq(username), any(Instant.class)))
+                .thenAnswer(
+                        invocation ->
+                                new RefreshTokenDetails(
+                                        refreshToken,
+                                        userId,
+                                        username,
+                                        invocation.getArgument(2, Instant.class)));
     }
 }
@@ -12,11 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceTest {
@@ -33,8 +33,7 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService(issuer, ttl, jwtEncoder);
-        ReflectionTestUtils.setField(jwtService, "audience", audience);
+        jwtService = new JwtService(issuer, audience, ttl, SignatureAlgorithm.RS256, jwtEncoder);
 
         Jwt jwt = mock(Jwt.class);
         when(jwt.getTokenValue()).thenReturn(expectedToken);
@@ -65,5 +64,7 @@ class JwtServiceTest {
         assertThat(Duration.between(issuedAt, expiresAt)).isEqualTo(ttl);
         assertThat(claims.getId()).isNotNull();
         assertThat(claims.getAudience()).contains(audience);
+        assertThat(captor.getValue().getJwsHeader().getAlgorithm())
+                .isEqualTo(SignatureAlgorithm.RS256);
     }
 }
@@ -0,0 +1,65 @@
+package org.hackit.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.config.OtpConfig;
+import org.hackit.auth.config.security.HmacOtpHasher;
+import org.hackit.auth.config.security.PasswordEncoderOtpHasher;
+import org.hackit.auth.model.OtpVerification;
+import org.hackit.auth.repository.OtpStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+class OtpServiceTest {
+
+    private static final OtpConfig.OtpConfigProperties PROPERTIES =
+            new OtpConfig.OtpConfigProperties(
+                    "otp:%s", Duration.ofMinutes(5), 6, 3, OtpConfig.OtpHashing.HMAC, null);
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private static final String KEY = "otp:" + USER_ID;
+
+    @Mock private OtpStore otpStore;
+
+    @Test
+    void shouldVerifyHmacCodeWithoutReadingStoredHash() {
+        // given
+        final var hasher = new HmacOtpHasher("0123456789abcdef0123456789abcdef".getBytes());
+        final var otpService = new OtpService(PROPERTIES, otpStore, hasher);
+        when(otpStore.verifyAndConsume(KEY, hasher.hash(USER_ID, "123456"), 3))
+                .thenReturn(OtpVerification.VALID);
+
+        // when
+        final var result = otpService.verifyAndConsume(USER_ID, "123456");
+
+        // then
+        assertThat(result).isEqualTo(OtpVerification.VALID);
+        verify(otpStore, never()).find(KEY);
+    }
+
+    @Test
+    void shouldPassEmptyCandidateWhenBcryptCodeDoesNotMatch() {
+        // given
+        final var hasher = new PasswordEncoderOtpHasher(new BCryptPasswordEncoder(4));
+        final var otpService = new OtpService(PROPERTIES, otpStore, hasher);
+        when(otpStore.find(KEY)).thenReturn(Optional.of(hasher.hash(USER_ID, "123456")));
+        when(otpStore.verifyAndConsume(KEY, "", 3))
+                .thenReturn(OtpVerification.TOO_MANY_ATTEMPTS);
+
+        // when
+        final var result = otpService.verifyAndConsume(USER_ID, "654321");
+
+        // then
+        assertThat(result).isEqualTo(OtpVerification.TOO_MANY_ATTEMPTS);
+    }
+}
@@ -0,0 +1,91 @@
+package org.hackit.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+
+import org.hackit.auth.config.security.JwtSigningKeys;
+import org.hackit.auth.dto.UserProfileDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class PrecomputedJwtServiceTest {
+
+    private final String issuer = "http://test-app.com";
+    private final String audience = "test-api";
+    private final Duration ttl = Duration.ofMinutes(30);
+
+    private JwtSigningKeys signingKeys;
+
+    private PrecomputedJwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        signingKeys = JwtSigningKeys.hmac(secret);
+        jwtService =
+                new PrecomputedJwtService(
+                        issuer, audience, ttl, signingKeys, signingKeys.encoder());
+    }
+
+    @Test
+    void shouldMintTokenEquivalentToStandardPath() {
+        // given
+        JwtService standardJwtService =
+                new JwtService(
+                        issuer,
+                        audience,
+                        ttl,
+                        signingKeys.algorithm().getJwsAlgorithm(),
+                        signingKeys.encoder());
+
+        // when
+        Jwt fast = signingKeys.decoder().decode(jwtService.generateToken("testuser"));
+        Jwt standard = signingKeys.decoder().decode(standardJwtService.generateToken("testuser"));
+
+        // then
+        assertThat(fast.getHeaders()).isEqualTo(standard.getHeaders());
+        assertThat(fast.getClaims().keySet()).isEqualTo(standard.getClaims().keySet());
+        assertThat(fast.getSubject()).isEqualTo("testuser");
+        assertThat(fast.getClaimAsString("iss")).isEqualTo(issuer);
+        assertThat(fast.getAudience()).containsExactly(audience);
+        assertThat(fast.getId()).isNotEqualTo(standard.getId()).isNotBlank();
+        assertThat(Duration.between(fast.getIssuedAt(), fast.getExpiresAt())).isEqualTo(ttl);
+        assertThat(fast.getNotBefore()).isEqualTo(fast.getIssuedAt());
+    }
+
+    @Test
+    void shouldEscapeSubject() {
+        // when
+        Jwt jwt = signingKeys.decoder().decode(jwtService.generateToken("quote\"back\\slash"));
+
+        // then
+        assertThat(jwt.getSubject()).isEqualTo("quote\"back\\slash");
+    }
+
+    @Test
+    void shouldEmbedProfileClaimsLikeStandardPath() {
+        // given
+        JwtService standardJwtService =
+                new JwtService(
+                        issuer,
+                        audience,
+                        ttl,
+                        signingKeys.algorithm().getJwsAlgorithm(),
+                        signingKeys.encoder());
+        UserProfileDto profile = new UserProfileDto("test@test.com", "testuser", true);
+
+        // when
+        Jwt fast = signingKeys.decoder().decode(jwtService.generateToken(profile));
+        Jwt standard = signingKeys.decoder().decode(standardJwtService.generateToken(profile));
+
+        // then
+        assertThat(fast.getClaims().keySet()).isEqualTo(standard.getClaims().keySet());
+        assertThat(fast.getClaimAsString(JwtService.EMAIL_CLAIM)).isEqualTo("test@test.com");
+        assertThat(fast.getClaimAsBoolean(JwtService.EMAIL_VERIFIED_CLAIM)).isTrue();
+        assertThat(standard.getClaimAsBoolean(JwtService.EMAIL_VERIFIED_CLAIM)).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+package org.hackit.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hackit.auth.exception.RestErrorResponseException;
+import org.hackit.auth.repository.RefreshTokenStore;
+import org.hackit.auth.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class SessionServiceTest {
+
+    @Mock private UserRepository userRepository;
+
+    @Mock private RefreshTokenStore refreshTokenStore;
+
+    @InjectMocks private SessionService sessionService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldRevokeAllSessionsByUsernameWithoutLoadingUser() {
+        // given
+        when(userRepository.findIdByUsername("testuser")).thenReturn(Optional.of(userId));
+        when(refreshTokenStore.revokeAll(userId)).thenReturn(4L);
+
+        // when
+        final var revoked = sessionService.revokeAllSessions("testuser");
+
+        // then
+        assertThat(revoked).isEqualTo(4);
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void shouldRevokeAllSessionsByUserIdWithoutLookup() {
+        // given
+        when(refreshTokenStore.revokeAll(userId)).thenReturn(2L);
+
+        // when
+        final var revoked = sessionService.revokeAllSessions(userId);
+
+        // then
+        assertThat(revoked).isEqualTo(2);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldListSessionsOfUser() {
+        // given
+        final var pageable = PageRequest.of(1, 10);
+        when(userRepository.findIdByUsername("testuser")).thenReturn(Optional.of(userId));
+        when(refreshTokenStore.findSessions(userId, pageable)).thenReturn(Page.empty(pageable));
+
+        // when
+        final var sessions = sessionService.getSessions("testuser", pageable);
+
+        // then
+        assertThat(sessions.getPageable()).isEqualTo(pageable);
+        verify(refreshTokenStore).findSessions(userId, pageable);
+    }
+
+    @Test
+    void shouldRejectUnknownUser() {
+        // given
+        when(userRepository.findIdByUsername("ghost")).thenReturn(Optional.empty());
+
+        // when/then
+        assertThatThrownBy(() -> sessionService.revokeAllSessions("ghost"))
+                .isInstanceOf(RestErrorResponseException.class);
+        verifyNoInteractions(refreshTokenStore);
+    }
+}
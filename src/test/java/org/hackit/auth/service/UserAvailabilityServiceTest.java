@@ -0,0 +1,178 @@
+package org.hackit.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hackit.auth.model.UserIdentity;
+import org.hackit.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityServiceTest {
+
+    @Mock private UserRepository userRepository;
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserAvailabilityService userAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        userAvailabilityService =
+                new UserAvailabilityService(userRepository, 1_000, 0.001, null, objectMapper);
+    }
+
+    @Test
+    void shouldQueryDatabaseUntilFiltersAreBuilt() {
+        // given
+        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+
+        // when/then
+        assertThat(userAvailabilityService.isUsernameAvailable("testuser")).isFalse();
+        verify(userRepository).existsByUsername("testuser");
+    }
+
+    @Test
+    void shouldAnswerFreeValuesWithoutDatabase() {
+        // given
+        when(userRepository.streamAllIdentities())
+                .thenReturn(
+                        Stream.of(
+                                new UserIdentity(
+                                        UUID.randomUUID(), "testuser", "testuser@test.com", true)));
+        userAvailabilityService.rebuild();
+
+        // when/then
+        assertThat(userAvailabilityService.isUsernameAvailable("freeuser")).isTrue();
+        assertThat(userAvailabilityService.isEmailAvailable("free@test.com")).isTrue();
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void shouldConfirmPossibleHitsInDatabase() {
+        // given
+        when(userRepository.streamAllIdentities()).thenReturn(Stream.empty());
+        userAvailabilityService.rebuild();
+        userAvailabilityService.registered("newuser", "newuser@test.com");
+        when(userRepository.existsByUsername("newuser")).thenReturn(true);
+        when(userRepository.existsByEmail("newuser@test.com")).thenReturn(true);
+
+        // when/then
+        assertThat(userAvailabilityService.isUsernameAvailable("newuser")).isFalse();
+        assertThat(userAvailabilityService.isEmailAvailable("newuser@test.com")).isFalse();
+    }
+
+    @Test
+    void shouldKeepRegistrationMadeWhileRebuilding() {
+        // given
+        when(userRepository.streamAllIdentities()).thenReturn(Stream.empty());
+        userAvailabilityService.rebuild();
+        when(userRepository.streamAllIdentities())
+                .thenReturn(
+                        Stream.of(identity("testuser"))
+                                .peek(
+                                        identity ->
+                                                userAvailabilityService.registered(
+                                                        "newuser", "newuser@test.com")));
+        when(userRepository.existsByUsername("newuser")).thenReturn(true);
+
+        // when
+        userAvailabilityService.rebuild();
+
+        // then
+        assertThat(userAvailabilityService.isUsernameAvailable("newuser")).isFalse();
+    }
+
+    @Test
+    void shouldNotLoseRegistrationsRacingWithRebuilds() throws Exception {
+        // given
+        final var committed = new ConcurrentLinkedQueue<String>();
+        when(userRepository.streamAllIdentities())
+                .thenAnswer(invocation -> committed.stream().map(this::identity));
+        when(userRepository.existsByUsername(anyString())).thenReturn(true);
+        userAvailabilityService.rebuild();
+        final var registrar =
+                new Thread(
+                        () ->
+                                IntStream.range(0, 500)
+                                        .mapToObj(i -> "user" + i)
+                                        .forEach(
+                                                username -> {
+                                                    committed.add(username);
+                                                    userAvailabilityService.registered(
+                                                            username, username + "@test.com");
+                                                }));
+
+        // when
+        registrar.start();
+        while (registrar.isAlive()) {
+            userAvailabilityService.rebuild();
+        }
+        registrar.join();
+
+        // then
+        assertThat(committed)
+                .allSatisfy(
+                        username ->
+                                assertThat(userAvailabilityService.isUsernameAvailable(username))
+                                        .isFalse());
+    }
+
+    @Test
+    void shouldBroadcastRegistrations() {
+        // given
+        final var service =
+                new UserAvailabilityService(
+                        userRepository, 1_000, 0.001, redisTemplate, objectMapper);
+
+        // when
+        service.registered("newuser", "newuser@test.com");
+
+        // then
+        verify(redisTemplate)
+                .convertAndSend(
+                        UserAvailabilityService.CHANNEL,
+                        "{\"username\":\"newuser\",\"email\":\"newuser@test.com\"}");
+    }
+
+    @Test
+    void shouldApplyRegistrationsFromOtherNodes() {
+        // given
+        when(userRepository.streamAllIdentities()).thenReturn(Stream.empty());
+        userAvailabilityService.rebuild();
+        when(userRepository.existsByEmail("remote@test.com")).thenReturn(true);
+
+        // when
+        userAvailabilityService.onMessage(
+                new DefaultMessage(
+                        UserAvailabilityService.CHANNEL.getBytes(UTF_8),
+                        "{\"username\":\"remote\",\"email\":\"remote@test.com\"}"
+                                .getBytes(UTF_8)),
+                null);
+
+        // then
+        assertThat(userAvailabilityService.isEmailAvailable("remote@test.com")).isFalse();
+    }
+
+    private UserIdentity identity(final String username) {
+        return new UserIdentity(UUID.randomUUID(), username, username + "@test.com", true);
+    }
+}
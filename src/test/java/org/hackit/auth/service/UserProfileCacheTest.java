@@ -0,0 +1,171 @@
+package org.hackit.auth.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hackit.auth.dto.UserProfileDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    private static final UserProfileDto PROFILE =
+            new UserProfileDto("john@test.com", "john", true);
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldServeRepeatedLookupsFromMemory() {
+        // given
+        final var cache = localCache();
+
+        // when
+        cache.get("john", this::load);
+        final var profile = cache.get("john", this::load);
+
+        // then
+        assertThat(profile).isEqualTo(PROFILE);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidationMessage() {
+        // given
+        final var cache = localCache();
+        cache.get("john", this::load);
+
+        // when
+        cache.onMessage(message("other-node:john"), null);
+        cache.get("john", this::load);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldUseSharedCacheBeforeDatabase() throws Exception {
+        // given
+        final var objectMapper = new ObjectMapper();
+        final var cache =
+                new UserProfileCache(
+                        100,
+                        Duration.ofMinutes(1),
+                        redisTemplate,
+                        objectMapper,
+                        Duration.ofMinutes(10),
+                        new SimpleMeterRegistry());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("user-profile:john"))
+                .thenReturn(objectMapper.writeValueAsString(PROFILE));
+
+        // when
+        final var profile = cache.get("john", this::load);
+
+        // then
+        assertThat(profile).isEqualTo(PROFILE);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldNotOverwriteSharedEntryWhenLoading() throws Exception {
+        // given
+        final var objectMapper = new ObjectMapper();
+        final var cache = sharedCache(objectMapper);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        cache.get("john", this::load);
+
+        // then
+        verify(valueOperations)
+                .setIfAbsent(
+                        "user-profile:john",
+                        objectMapper.writeValueAsString(PROFILE),
+                        Duration.ofMinutes(10));
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    void shouldWriteThroughUpdatesAndBroadcast() throws Exception {
+        // given
+        final var objectMapper = new ObjectMapper();
+        final var cache = sharedCache(objectMapper);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        cache.update(PROFILE);
+        final var profile = cache.get("john", this::load);
+
+        // then
+        assertThat(profile).isEqualTo(PROFILE);
+        assertThat(loads).hasValue(0);
+        verify(valueOperations)
+                .set(
+                        "user-profile:john",
+                        objectMapper.writeValueAsString(PROFILE),
+                        Duration.ofMinutes(10));
+        verify(redisTemplate).convertAndSend(eq(UserProfileCache.CHANNEL), endsWith(":john"));
+    }
+
+    @Test
+    void shouldKeepOwnUpdateWhenItsBroadcastComesBack() {
+        // given
+        final var cache = sharedCache(new ObjectMapper());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        final var published = ArgumentCaptor.forClass(String.class);
+
+        // when
+        cache.update(PROFILE);
+        verify(redisTemplate).convertAndSend(eq(UserProfileCache.CHANNEL), published.capture());
+        cache.onMessage(message(published.getValue()), null);
+        final var profile = cache.get("john", this::load);
+
+        // then
+        assertThat(profile).isEqualTo(PROFILE);
+        assertThat(loads).hasValue(0);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    private UserProfileCache sharedCache(final ObjectMapper objectMapper) {
+        return new UserProfileCache(
+                100,
+                Duration.ofMinutes(1),
+                redisTemplate,
+                objectMapper,
+                Duration.ofMinutes(10),
+                new SimpleMeterRegistry());
+    }
+
+    private UserProfileCache localCache() {
+        return new UserProfileCache(
+                100, Duration.ofMinutes(1), null, null, null, new SimpleMeterRegistry());
+    }
+
+    private static DefaultMessage message(final String body) {
+        return new DefaultMessage(UserProfileCache.CHANNEL.getBytes(UTF_8), body.getBytes(UTF_8));
+    }
+
+    private UserProfileDto load(final String username) {
+        loads.incrementAndGet();
+        return PROFILE;
+    }
+}
@@ -0,0 +1,40 @@
+package org.hackit.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldContainEveryInsertedValue() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        var values = IntStream.range(0, 1_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // when
+        values.forEach(filter::put);
+
+        // then
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(UUID.randomUUID().toString()));
+
+        // when
+        long falsePositives =
+                IntStream.range(0, 100_000)
+                        .filter(i -> filter.mightContain(UUID.randomUUID().toString()))
+                        .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
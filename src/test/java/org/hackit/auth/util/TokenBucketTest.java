@@ -0,0 +1,38 @@
+package org.hackit.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), now::get);
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume();
+        }
+
+        // when
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertThat(bucket.tryConsume()).isZero();
+        assertThat(bucket.tryConsume()).isPositive();
+    }
+}
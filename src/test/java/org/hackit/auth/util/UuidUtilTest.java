@@ -0,0 +1,39 @@
+package org.hackit.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidUtilTest {
+
+    @Test
+    void shouldGenerateVersion7Uuid() {
+        // when
+        UUID uuid = UuidUtil.generateUuidV7();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16)
+                .isBetween(System.currentTimeMillis() - 1000, System.currentTimeMillis());
+    }
+
+    @Test
+    void shouldOrderByTimestampRegardlessOfRandomBits() {
+        // given
+        UUID earlier = UuidUtil.uuidV7(1_700_000_000_000L, -1L, -1L);
+        UUID later = UuidUtil.uuidV7(1_700_000_000_001L, 0L, 0L);
+
+        // then
+        assertThat(earlier.toString()).isLessThan(later.toString());
+        assertThat(earlier.version()).isEqualTo(7);
+        assertThat(later.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotRepeatWithinSameMillisecond() {
+        assertThat(UuidUtil.generateUuidV7()).isNotEqualTo(UuidUtil.generateUuidV7());
+    }
+}